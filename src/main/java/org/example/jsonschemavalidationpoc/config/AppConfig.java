@@ -1,14 +1,37 @@
 package org.example.jsonschemavalidationpoc.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.jsonschemavalidationpoc.service.ArtifactJobQueue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
     
     @Bean
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
     }
+    
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool batchValidationPool(BatchValidationProperties properties) {
+        return new ForkJoinPool(properties.getParallelism());
+    }
+    
+    /**
+     * Fixed pool of platform threads for artifact jobs, so jar and Avro generation
+     * never competes with validation for request threads. Full queues reject jobs.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor artifactJobExecutor(ArtifactJobProperties properties) {
+        return new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(), 0, TimeUnit.MILLISECONDS,
+            new ArtifactJobQueue(properties.getQueueCapacity()),
+            Thread.ofPlatform().name("artifact-job-", 0).daemon().factory());
+    }
 }
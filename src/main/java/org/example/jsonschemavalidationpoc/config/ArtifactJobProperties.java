@@ -0,0 +1,34 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "schema.jobs")
+public class ArtifactJobProperties {
+
+    /**
+     * Threads generating artifacts for submitted jobs, apart from the request threads.
+     */
+    private int workers = 2;
+
+    /**
+     * Jobs that may wait for a worker. Submissions beyond this are rejected
+     * until the queue drains.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * How long a finished job and its artifact stay available.
+     */
+    private Duration retention = Duration.ofMinutes(10);
+
+    /**
+     * Total size of the artifacts held by retained jobs. A job whose artifact
+     * does not fit fails instead of holding it.
+     */
+    private DataSize resultBudget = DataSize.ofMegabytes(64);
+}
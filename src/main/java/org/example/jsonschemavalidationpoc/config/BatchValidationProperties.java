@@ -0,0 +1,19 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "validation.batch")
+public class BatchValidationProperties {
+
+    /**
+     * Number of worker threads used to validate the documents of a batch.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Largest number of documents accepted in a single batch request.
+     */
+    private int maxSize = 10_000;
+}
@@ -0,0 +1,26 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "schema.cache")
+public class SchemaCacheProperties {
+
+    /**
+     * Upper bound for the compiled schema cache, measured in characters of
+     * schema source so that large schemas count for more than small ones.
+     */
+    private long maximumWeight = 16_000_000;
+
+    /**
+     * Upper bound for cached Avro schemas and POJO jars, in bytes.
+     */
+    private long artifactMaximumWeight = 64_000_000;
+
+    /**
+     * Largest jar, in bytes, kept for later requests when it was streamed
+     * straight to a client. Larger jars are rebuilt on every download.
+     */
+    private long artifactMaximumEntrySize = 8_000_000;
+}
@@ -0,0 +1,42 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Data
+@ConfigurationProperties(prefix = "schema.changes")
+public class SchemaChangeProperties {
+
+    /**
+     * How schema saves and deletes reach the other instances: "database", "in-memory" or "none".
+     */
+    private String channel = "database";
+
+    /**
+     * Identifies this instance on the channel, so it skips its own changes.
+     */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Delay between two polls of the change table.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Largest number of changes read by one poll.
+     */
+    private int pollBatchSize = 500;
+
+    /**
+     * How long a poll waits for a missing change id, from a transaction still in flight, before skipping it.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How long changes are kept in the change table; must exceed the longest expected poll outage.
+     */
+    private Duration retention = Duration.ofHours(1);
+}
@@ -0,0 +1,35 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.example.jsonschemavalidationpoc.entity.CompressionCodec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "schema.storage.compression")
+public class SchemaCompressionProperties {
+
+    /**
+     * Whether new schema bodies at or above the minimum size are stored compressed.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Codec for newly compressed bodies; bodies keep the codec they were written with.
+     */
+    private CompressionCodec codec = CompressionCodec.GZIP;
+
+    /**
+     * Smallest body, in characters, worth compressing.
+     */
+    private int minSize = 16_384;
+
+    /**
+     * Whether bodies stored uncompressed before compression was enabled are compressed at startup.
+     */
+    private boolean migrateOnStartup = false;
+
+    /**
+     * Number of bodies compressed per transaction while migrating.
+     */
+    private int migrationBatchSize = 100;
+}
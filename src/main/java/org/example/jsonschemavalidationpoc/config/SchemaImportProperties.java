@@ -0,0 +1,19 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "schema.import")
+public class SchemaImportProperties {
+
+    /**
+     * Largest number of schemas accepted in a single bulk import.
+     */
+    private int maxSize = 5_000;
+
+    /**
+     * Number of rows persisted between flushes; should match hibernate.jdbc.batch_size.
+     */
+    private int batchSize = 50;
+}
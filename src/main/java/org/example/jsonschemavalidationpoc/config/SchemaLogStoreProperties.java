@@ -0,0 +1,22 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Data
+@ConfigurationProperties(prefix = "schema.log-store")
+public class SchemaLogStoreProperties {
+
+    /**
+     * Directory holding the log segments and their index files; created if missing.
+     */
+    private Path directory = Path.of("data", "schema-log");
+
+    /**
+     * Size at which the current segment is sealed and a new one started.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+}
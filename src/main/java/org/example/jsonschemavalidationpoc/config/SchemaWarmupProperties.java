@@ -0,0 +1,27 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "schema.warmup")
+public class SchemaWarmupProperties {
+
+    /**
+     * Whether stored schemas are compiled before the instance reports ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Schemas to warm as "type:version" entries. When empty, every stored schema is warmed.
+     */
+    private List<String> schemas = new ArrayList<>();
+
+    /**
+     * Number of threads used to compile schemas during warm-up.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,20 @@
+package org.example.jsonschemavalidationpoc.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "validation.specialized")
+public class SpecializedValidationProperties {
+
+    /**
+     * Whether hot schemas are promoted to specialized validators.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of validations after which a schema is specialized. Zero
+     * specializes a schema on its first validation.
+     */
+    private long usageThreshold = 0;
+}
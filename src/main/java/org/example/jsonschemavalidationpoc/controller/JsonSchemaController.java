@@ -1,17 +1,40 @@
 package org.example.jsonschemavalidationpoc.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobRequest;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobResponse;
 import org.example.jsonschemavalidationpoc.dto.AvroSchemaResponse;
+import org.example.jsonschemavalidationpoc.dto.BatchValidationRequest;
+import org.example.jsonschemavalidationpoc.dto.BatchValidationResponse;
+import org.example.jsonschemavalidationpoc.dto.CacheStatsResponse;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResponse;
+import org.example.jsonschemavalidationpoc.dto.SchemaPageResponse;
 import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.dto.ValidationMode;
 import org.example.jsonschemavalidationpoc.dto.ValidationRequest;
 import org.example.jsonschemavalidationpoc.dto.ValidationResponse;
 import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.service.ArtifactJob;
+import org.example.jsonschemavalidationpoc.service.ArtifactJobService;
+import org.example.jsonschemavalidationpoc.service.BatchValidationService;
+import org.example.jsonschemavalidationpoc.service.CompiledSchema;
 import org.example.jsonschemavalidationpoc.service.JsonSchemaService;
+import org.example.jsonschemavalidationpoc.service.SchemaImportService;
+import org.example.jsonschemavalidationpoc.service.SchemaKey;
+import org.example.jsonschemavalidationpoc.service.StreamingValidationService;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
@@ -19,6 +42,10 @@ import org.springframework.web.bind.annotation.*;
 public class JsonSchemaController {
     
     private final JsonSchemaService jsonSchemaService;
+    private final BatchValidationService batchValidationService;
+    private final StreamingValidationService streamingValidationService;
+    private final SchemaImportService schemaImportService;
+    private final ArtifactJobService artifactJobService;
     
     @PostMapping("/schemas")
     public ResponseEntity<?> saveSchema(@RequestBody SchemaRequest request) {
@@ -33,10 +60,72 @@ public class JsonSchemaController {
         }
     }
     
+    @PostMapping("/schemas/bulk")
+    public ResponseEntity<?> importSchemas(@RequestBody List<SchemaRequest> requests) {
+        try {
+            SchemaImportResponse response = schemaImportService.importSchemas(requests);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Error importing schemas: " + e.getMessage());
+        }
+    }
+    
+    @GetMapping("/schemas")
+    public ResponseEntity<?> listSchemas(
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            SchemaPageResponse response = jsonSchemaService.listSchemas(type, after, limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Error listing schemas: " + e.getMessage());
+        }
+    }
+    
+    @GetMapping("/schemas/{type}/{version}")
+    public ResponseEntity<?> getSchema(
+            @PathVariable String type,
+            @PathVariable String version) {
+        try {
+            return ResponseEntity.ok(jsonSchemaService.getSchema(type, version));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Error loading schema: " + e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/schemas/{type}/{version}")
+    public ResponseEntity<?> deleteSchema(
+            @PathVariable String type,
+            @PathVariable String version) {
+        try {
+            jsonSchemaService.deleteSchema(type, version);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Error deleting schema: " + e.getMessage());
+        }
+    }
+    
     @PostMapping("/validate")
-    public ResponseEntity<ValidationResponse> validateJson(@RequestBody ValidationRequest request) {
+    public ResponseEntity<ValidationResponse> validateJson(
+            @RequestBody ValidationRequest request,
+            @RequestParam(required = false) String mode,
+            @RequestHeader(value = ValidationMode.HEADER, required = false) String modeHeader) {
         try {
-            ValidationResponse response = jsonSchemaService.validateJson(request);
+            ValidationMode validationMode = ValidationMode.resolve(mode, modeHeader);
+            ValidationResponse response = jsonSchemaService.validateJson(request, validationMode);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(
@@ -48,21 +137,90 @@ public class JsonSchemaController {
         }
     }
     
+    @PostMapping("/validate/batch")
+    public ResponseEntity<?> validateBatch(
+            @RequestBody BatchValidationRequest request,
+            @RequestParam(required = false) String mode,
+            @RequestHeader(value = ValidationMode.HEADER, required = false) String modeHeader) {
+        try {
+            ValidationMode validationMode = ValidationMode.resolve(mode, modeHeader);
+            BatchValidationResponse response = batchValidationService.validateBatch(request, validationMode);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Batch validation error: " + e.getMessage());
+        }
+    }
+    
+    @PostMapping(value = "/validate/stream", 
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> validateStream(
+            @RequestParam String type,
+            @RequestParam String version,
+            @RequestParam(required = false) String mode,
+            @RequestHeader(value = ValidationMode.HEADER, required = false) String modeHeader,
+            InputStream body) {
+        try {
+            ValidationMode validationMode = ValidationMode.resolve(mode, modeHeader);
+            SchemaKey key = jsonSchemaService.resolveKey(type, version);
+            CompiledSchema compiled = jsonSchemaService.getCompiledSchema(key.type(), key.version());
+            StreamingResponseBody stream = output -> 
+                streamingValidationService.validateStream(
+                    key, compiled, body, output, validationMode);
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @GetMapping("/generate-jar")
-    public ResponseEntity<byte[]> generateJar(
+    public ResponseEntity<StreamingResponseBody> generateJar(
             @RequestParam String type, 
-            @RequestParam String version) {
+            @RequestParam String version,
+            @RequestParam(defaultValue = "false") boolean compiled,
+            WebRequest request) {
         try {
-            byte[] jarBytes = jsonSchemaService.generatePojoJar(type, version);
+            SchemaKey key = jsonSchemaService.resolveKey(type, version);
+            String etag = jsonSchemaService.pojoJarETag(key.type(), key.version(), compiled);
+            // Sets the ETag header and, on an If-None-Match hit, answers 304 without building the jar
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            // Built before the response is committed, so generation errors still map to 400 or 500
+            Optional<byte[]> built = compiled 
+                ? jsonSchemaService.bufferPojoClassesJar(key.type(), key.version()) 
+                : jsonSchemaService.bufferPojoJar(key.type(), key.version());
             
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", 
-                type + "-" + version + "-pojos.jar");
+                key.type() + "-" + key.version() + (compiled ? "-pojos-classes.jar" : "-pojos.jar"));
+            
+            StreamingResponseBody jar;
+            if (built.isPresent()) {
+                byte[] bytes = built.get();
+                headers.setContentLength(bytes.length);
+                jar = output -> output.write(bytes);
+            } else {
+                // Too large to keep: rebuilt and written chunk by chunk after the 200 is sent
+                jar = output -> {
+                    if (compiled) {
+                        jsonSchemaService.writePojoClassesJar(key.type(), key.version(), output);
+                    } else {
+                        jsonSchemaService.writePojoJar(key.type(), key.version(), output);
+                    }
+                };
+            }
             
             return ResponseEntity.ok()
                 .headers(headers)
-                .body(jarBytes);
+                .body(jar);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         } catch (Exception e) {
@@ -70,13 +228,35 @@ public class JsonSchemaController {
         }
     }
     
+    @PostMapping(value = "/schemas/{type}/{version}/validate", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ValidationResponse> validateDocument(
+            @PathVariable String type,
+            @PathVariable String version,
+            @RequestParam(required = false) String mode,
+            @RequestHeader(value = ValidationMode.HEADER, required = false) String modeHeader,
+            InputStream body) {
+        try {
+            ValidationMode validationMode = ValidationMode.resolve(mode, modeHeader);
+            ValidationResponse response = jsonSchemaService.validateDocument(type, version, body, validationMode);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                new ValidationResponse(false, java.util.Collections.singletonList(e.getMessage())));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                new ValidationResponse(false, 
+                    java.util.Collections.singletonList("Validation error: " + e.getMessage())));
+        }
+    }
+    
     @GetMapping("/schemas/{type}/{version}/avro")
     public ResponseEntity<?> getAvroSchema(
             @PathVariable String type,
             @PathVariable String version) {
         try {
-            String avroSchema = jsonSchemaService.getAvroSchema(type, version);
-            AvroSchemaResponse response = new AvroSchemaResponse(type, version, avroSchema);
+            SchemaKey key = jsonSchemaService.resolveKey(type, version);
+            String avroSchema = jsonSchemaService.getAvroSchema(key.type(), key.version());
+            AvroSchemaResponse response = new AvroSchemaResponse(key.type(), key.version(), avroSchema);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -85,4 +265,63 @@ public class JsonSchemaController {
                 .body("Error converting to Avro: " + e.getMessage());
         }
     }
+    
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitJob(@RequestBody ArtifactJobRequest request) {
+        try {
+            ArtifactJobResponse job = artifactJobService.submit(request);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body("Artifact job queue is full, retry later");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Error submitting job: " + e.getMessage());
+        }
+    }
+    
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ArtifactJobResponse> getJob(@PathVariable String id) {
+        return artifactJobService.findJob(id)
+            .map(job -> ResponseEntity.ok(job.toResponse()))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/jobs/{id}/result")
+    public ResponseEntity<?> getJobResult(@PathVariable String id) {
+        Optional<ArtifactJob> found = artifactJobService.findJob(id);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ArtifactJob job = found.get();
+        if (job.getStatus() == ArtifactJobResponse.Status.FAILED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Job failed: " + job.getError());
+        }
+        if (job.getStatus() != ArtifactJobResponse.Status.SUCCEEDED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Job is " + job.getStatus());
+        }
+        
+        SchemaKey key = job.getKey();
+        Object result = artifactJobService.getResult(job);
+        if (job.getKind() == ArtifactJobRequest.Kind.AVRO) {
+            return ResponseEntity.ok(new AvroSchemaResponse(key.type(), key.version(), (String) result));
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDispositionFormData("attachment", key.type() + "-" + key.version() 
+            + (job.getKind() == ArtifactJobRequest.Kind.COMPILED_JAR ? "-pojos-classes.jar" : "-pojos.jar"));
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body((byte[]) result);
+    }
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(jsonSchemaService.getCacheStats());
+    }
 }
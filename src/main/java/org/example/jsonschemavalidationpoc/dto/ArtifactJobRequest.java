@@ -0,0 +1,23 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtifactJobRequest {
+    
+    public enum Kind { JAR, COMPILED_JAR, AVRO }
+    
+    /**
+     * Queued jobs are picked up in priority order, and in submission order within a priority
+     */
+    public enum Priority { HIGH, NORMAL, LOW }
+    
+    private String type;
+    private String version;
+    private Kind kind;
+    private Priority priority;
+}
@@ -0,0 +1,21 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtifactJobResponse {
+    
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+    
+    private String id;
+    private String type;
+    private String version;
+    private ArtifactJobRequest.Kind kind;
+    private ArtifactJobRequest.Priority priority;
+    private Status status;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidationRequest {
+    private String type;
+    private String version;
+    private List<JsonNode> documents;
+}
@@ -0,0 +1,16 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidationResponse {
+    private int total;
+    private int validCount;
+    private List<ValidationResponse> results;
+}
@@ -0,0 +1,17 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long size;
+    private long weightedSize;
+}
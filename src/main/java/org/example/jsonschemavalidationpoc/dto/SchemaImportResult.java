@@ -0,0 +1,20 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaImportResult {
+    
+    public enum Status { CREATED, DUPLICATE, INVALID }
+    
+    private int index;
+    private String type;
+    private String version;
+    private Status status;
+    private Long id;
+    private String error;
+}
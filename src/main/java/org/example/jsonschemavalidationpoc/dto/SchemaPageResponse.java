@@ -0,0 +1,19 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaPageResponse {
+    private List<SchemaSummary> schemas;
+    /**
+     * Id of the last schema on the page, passed as {@code after} to fetch the next page; null on the last page.
+     * Ids are not assigned in commit order, so schemas committed while paging may be skipped.
+     */
+    private Long nextCursor;
+}
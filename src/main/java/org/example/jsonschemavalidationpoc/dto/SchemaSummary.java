@@ -0,0 +1,13 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+/**
+ * Listing projection of a stored schema. Only these columns are selected, so
+ * listing never reads schema content.
+ */
+public interface SchemaSummary {
+    Long getId();
+    String getType();
+    String getVersion();
+    Integer getContentSize();
+    String getContentHash();
+}
@@ -0,0 +1,17 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamValidationResult {
+    private long record;
+    private long line;
+    private boolean valid;
+    private List<String> errors;
+}
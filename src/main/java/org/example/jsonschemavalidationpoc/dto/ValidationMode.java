@@ -0,0 +1,33 @@
+package org.example.jsonschemavalidationpoc.dto;
+
+import java.util.Locale;
+
+/**
+ * How much work a validation request asks for.
+ */
+public enum ValidationMode {
+    /** Collect and report every violation. */
+    FULL,
+    /** Stop at the first violation and report only that one. */
+    FAIL_FAST,
+    /** Answer valid or invalid without building any messages. */
+    BOOLEAN;
+    
+    public static final String HEADER = "X-Validation-Mode";
+    
+    /**
+     * Picks the mode from the query parameter, then the header, defaulting to {@link #FULL}
+     */
+    public static ValidationMode resolve(String queryValue, String headerValue) {
+        String value = queryValue != null && !queryValue.isBlank() ? queryValue : headerValue;
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown validation mode '" + value + 
+                "', expected one of full, fail-fast, boolean");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.jsonschemavalidationpoc.entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Codecs for schema bodies stored compressed. The codec is stored with each row,
+ * so rows written with different codecs can be read side by side.
+ */
+public enum CompressionCodec {
+    
+    GZIP {
+        @Override
+        OutputStream compressing(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out);
+        }
+        
+        @Override
+        InputStream decompressing(InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    },
+    
+    /**
+     * zlib at the highest level: slower to write than gzip's default, smaller, and as fast to read
+     */
+    DEFLATE {
+        @Override
+        OutputStream compressing(OutputStream out) {
+            return new DeflaterOutputStream(out, new Deflater(Deflater.BEST_COMPRESSION)) {
+                @Override
+                public void close() throws IOException {
+                    // The stream does not end a Deflater it was handed, which would hold native memory until GC
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+        
+        @Override
+        InputStream decompressing(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+    };
+    
+    abstract OutputStream compressing(OutputStream out) throws IOException;
+    
+    abstract InputStream decompressing(InputStream in) throws IOException;
+    
+    public byte[] compress(String text) {
+        return compress(text.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public byte[] compress(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+        try (OutputStream out = compressing(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compress schema content: " + e.getMessage(), e);
+        }
+        return buffer.toByteArray();
+    }
+    
+    public String decompress(byte[] compressed) {
+        return new String(decompressBytes(compressed), StandardCharsets.UTF_8);
+    }
+    
+    public byte[] decompressBytes(byte[] compressed) {
+        try (InputStream in = decompressing(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decompress schema content: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package org.example.jsonschemavalidationpoc.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.lang.ref.SoftReference;
 
 @Entity
 @Table(name = "json_schemas", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"type", "version"})
+}, indexes = {
+    @Index(name = "idx_json_schemas_type_id", columnList = "type, id")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JsonSchemaEntity {
     
+    /**
+     * Sequence-generated, unlike IDENTITY, so Hibernate can batch inserts during bulk imports
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "json_schema_seq")
+    @SequenceGenerator(name = "json_schema_seq", sequenceName = "json_schema_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -24,6 +38,123 @@ public class JsonSchemaEntity {
     @Column(nullable = false)
     private String version;
     
-    @Column(nullable = false, columnDefinition = "TEXT")
+    /**
+     * Points at the shared body in {@link SchemaContentEntity}
+     */
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+    
+    /**
+     * Size of the content in UTF-8 bytes, kept on the row so listings need not read the content
+     */
+    @Column(nullable = false)
+    private Integer contentSize;
+    
+    /**
+     * Resolved from the content hash when the schema is loaded; not stored on this row
+     */
+    @Transient
     private String schemaContent;
+    
+    /**
+     * Smile encoding of the content, resolved alongside it
+     */
+    @Transient
+    @JsonIgnore
+    private byte[] binaryContent;
+    
+    /**
+     * Set instead of the text for content stored compressed. The text is
+     * decompressed when first asked for and then kept through a soft reference,
+     * so it is inflated once per use rather than per call, and the JVM can still
+     * drop it under memory pressure.
+     */
+    @Transient
+    @JsonIgnore
+    private CompressionCodec compression;
+    
+    @Transient
+    @JsonIgnore
+    private byte[] compressedContent;
+    
+    @Transient
+    @JsonIgnore
+    private byte[] compressedBinaryContent;
+    
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile SoftReference<String> decompressedContent;
+    
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile SoftReference<byte[]> decompressedBinaryContent;
+    
+    public String getSchemaContent() {
+        if (schemaContent == null && compression != null) {
+            SoftReference<String> cached = decompressedContent;
+            String content = cached != null ? cached.get() : null;
+            if (content == null) {
+                content = compression.decompress(compressedContent);
+                decompressedContent = new SoftReference<>(content);
+            }
+            return content;
+        }
+        return schemaContent;
+    }
+    
+    public byte[] getBinaryContent() {
+        if (binaryContent == null && compressedBinaryContent != null) {
+            SoftReference<byte[]> cached = decompressedBinaryContent;
+            byte[] content = cached != null ? cached.get() : null;
+            if (content == null) {
+                content = compression.decompressBytes(compressedBinaryContent);
+                decompressedBinaryContent = new SoftReference<>(content);
+            }
+            return content;
+        }
+        return binaryContent;
+    }
+    
+    /**
+     * Whether the content has been resolved, as text or compressed
+     */
+    public boolean hasContent() {
+        return schemaContent != null || compression != null;
+    }
+    
+    /**
+     * Resolves the content from a stored body, keeping it compressed if it is stored that way
+     */
+    public void attachContent(SchemaContentEntity content) {
+        schemaContent = content.getContent();
+        compression = content.getCompression();
+        compressedContent = content.getCompressedContent();
+        binaryContent = content.getBinaryContent();
+        compressedBinaryContent = content.getCompressedBinaryContent();
+        decompressedContent = null;
+        decompressedBinaryContent = null;
+    }
+    
+    /**
+     * Shares the resolved content of another version with the same content hash
+     */
+    public void shareContentOf(JsonSchemaEntity other) {
+        schemaContent = other.schemaContent;
+        compression = other.compression;
+        compressedContent = other.compressedContent;
+        decompressedContent = other.decompressedContent;
+        if (other.binaryContent != null || other.compressedBinaryContent != null) {
+            binaryContent = other.binaryContent;
+            compressedBinaryContent = other.compressedBinaryContent;
+            decompressedBinaryContent = other.decompressedBinaryContent;
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package org.example.jsonschemavalidationpoc.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.jsonschemavalidationpoc.service.SchemaChangeEvent;
+
+import java.time.Instant;
+
+/**
+ * One schema save or delete, read by the other instances polling this table
+ */
+@Entity
+@Table(name = "schema_changes", indexes = {
+    @Index(name = "idx_schema_changes_created_at", columnList = "createdAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaChangeEntity {
+    
+    /**
+     * IDENTITY rather than a pooled sequence, so ids follow insert order across instances
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SchemaChangeEvent.Kind kind;
+    
+    @Column(nullable = false)
+    private String type;
+    
+    @Column(nullable = false)
+    private String version;
+    
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+    
+    @Column(nullable = false)
+    private String origin;
+    
+    @Column(nullable = false)
+    private Instant createdAt;
+}
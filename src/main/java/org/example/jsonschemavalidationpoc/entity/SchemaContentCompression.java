@@ -0,0 +1,78 @@
+package org.example.jsonschemavalidationpoc.entity;
+
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.config.SchemaCompressionProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compresses schema bodies on their way into the database: the text, its
+ * normalized form and its Smile encoding. Runs as an entity listener, so every
+ * insert is covered; reading back is left to whoever needs a form, so bodies
+ * are only decompressed on a cache miss.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaContentCompression {
+    
+    private final SchemaCompressionProperties properties;
+    
+    /**
+     * Compresses a body about to be stored, if compression is enabled
+     */
+    @PrePersist
+    public void beforeInsert(SchemaContentEntity content) {
+        if (properties.isEnabled()) {
+            compress(content);
+        }
+    }
+    
+    /**
+     * Moves the text of a body at or above the minimum size into its compressed
+     * form, along with its normalized and binary forms, each only if it gets
+     * smaller. Rows whose text was compressed before the other forms were have
+     * just those compressed. Returns false, leaving the row as it is, when the
+     * body is small, already fully compressed, or does not get smaller.
+     */
+    public boolean compress(SchemaContentEntity content) {
+        if (content.isCompressed()) {
+            return compressForms(content, content.getCompression());
+        }
+        if (content.getContent() == null || content.getContent().length() < properties.getMinSize()) {
+            return false;
+        }
+        CompressionCodec codec = properties.getCodec();
+        byte[] compressed = codec.compress(content.getContent());
+        if (compressed.length >= content.getContent().getBytes(StandardCharsets.UTF_8).length) {
+            return false;
+        }
+        content.setCompressedContent(compressed);
+        content.setCompression(codec);
+        content.setContent(null);
+        compressForms(content, codec);
+        return true;
+    }
+    
+    private boolean compressForms(SchemaContentEntity content, CompressionCodec codec) {
+        boolean compressed = false;
+        if (content.getNormalizedContent() != null) {
+            byte[] normalized = codec.compress(content.getNormalizedContent());
+            if (normalized.length < content.getNormalizedContent().getBytes(StandardCharsets.UTF_8).length) {
+                content.setCompressedNormalizedContent(normalized);
+                content.setNormalizedContent(null);
+                compressed = true;
+            }
+        }
+        if (content.getBinaryContent() != null) {
+            byte[] binary = codec.compress(content.getBinaryContent());
+            if (binary.length < content.getBinaryContent().length) {
+                content.setCompressedBinaryContent(binary);
+                content.setBinaryContent(null);
+                compressed = true;
+            }
+        }
+        return compressed;
+    }
+}
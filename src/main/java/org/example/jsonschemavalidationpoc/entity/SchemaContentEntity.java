@@ -0,0 +1,78 @@
+package org.example.jsonschemavalidationpoc.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A schema body stored once and addressed by the SHA-256 hash of its content,
+ * together with its normalized text and Smile binary encoding. Large bodies
+ * are stored compressed; see {@link SchemaContentCompression}.
+ */
+@Entity
+@Table(name = "schema_contents")
+@EntityListeners(SchemaContentCompression.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchemaContentEntity {
+    
+    @Id
+    @Column(length = 64)
+    private String hash;
+    
+    /**
+     * The submitted text. Empty when the text is stored compressed.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String content;
+    
+    /**
+     * Compact JSON form of the content. Empty for rows written before it was introduced,
+     * and when it is stored compressed.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String normalizedContent;
+    
+    /**
+     * Smile encoding of the content, read instead of the text when compiling.
+     * Empty for rows written before it was introduced, and when it is stored compressed.
+     */
+    @Lob
+    private byte[] binaryContent;
+    
+    /**
+     * Codec of the compressed forms, or empty when every form is stored as is.
+     * The normalized and binary forms are only compressed along with the text.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private CompressionCodec compression;
+    
+    @Lob
+    private byte[] compressedContent;
+    
+    @Lob
+    private byte[] compressedNormalizedContent;
+    
+    @Lob
+    private byte[] compressedBinaryContent;
+    
+    public SchemaContentEntity(String hash, String content, String normalizedContent, byte[] binaryContent) {
+        this(hash, content, normalizedContent, binaryContent, null, null, null, null);
+    }
+    
+    public boolean isCompressed() {
+        return compression != null;
+    }
+    
+    /**
+     * The normalized form, decompressed if it is stored compressed
+     */
+    public String readNormalizedContent() {
+        return compressedNormalizedContent != null 
+            ? compression.decompress(compressedNormalizedContent) 
+            : normalizedContent;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.jsonschemavalidationpoc.repository;
+
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaJsonSchemaRepository extends JpaRepository<JsonSchemaEntity, Long>, JsonSchemaRepository {
+}
@@ -0,0 +1,68 @@
+package org.example.jsonschemavalidationpoc.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.config.SchemaImportProperties;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts a bulk import in a single transaction, sending the inserts in JDBC batches.
+ */
+@Repository
+@Profile("!log-store")
+@RequiredArgsConstructor
+public class JpaSchemaBatchWriter implements SchemaBatchWriter {
+    
+    private final SchemaContentRepository contentRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final SchemaImportProperties properties;
+    
+    @Override
+    public List<JsonSchemaEntity> insertAll(Collection<SchemaContentEntity> contents, List<JsonSchemaEntity> schemas) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Map<String, SchemaContentEntity> pendingContents = new LinkedHashMap<>();
+                contents.forEach(content -> pendingContents.putIfAbsent(content.getHash(), content));
+                pendingContents.keySet().removeAll(contentRepository.findExistingHashes(pendingContents.keySet()));
+                
+                int pending = 0;
+                for (SchemaContentEntity content : pendingContents.values()) {
+                    entityManager.persist(content);
+                    pending = flushIfFull(pending + 1);
+                }
+                for (JsonSchemaEntity schema : schemas) {
+                    entityManager.persist(schema);
+                    pending = flushIfFull(pending + 1);
+                }
+                entityManager.flush();
+                return schemas;
+            });
+        } catch (ConstraintViolationException e) {
+            throw new DataIntegrityViolationException(e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Sends the pending inserts as one JDBC batch and detaches them, so large imports do not grow the session
+     */
+    private int flushIfFull(int pending) {
+        if (pending < properties.getBatchSize()) {
+            return pending;
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return 0;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.jsonschemavalidationpoc.repository;
+
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaSchemaContentRepository extends JpaRepository<SchemaContentEntity, String>, SchemaContentRepository {
+    
+    @Override
+    @Query("select c.hash from SchemaContentEntity c where c.hash in :hashes")
+    List<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+    
+    /**
+     * Bodies stored as plain text of at least the given length, or with compressed text but a plain
+     * normalized or binary form, in hash order after the given hash
+     */
+    @Query("select c.hash from SchemaContentEntity c where c.hash > :afterHash " +
+        "and ((c.compression is null and length(c.content) >= :minSize) " +
+        "or (c.compression is not null and (c.normalizedContent is not null or c.binaryContent is not null))) " +
+        "order by c.hash")
+    List<String> findUncompressedHashes(@Param("afterHash") String afterHash, @Param("minSize") int minSize, 
+        Limit limit);
+}
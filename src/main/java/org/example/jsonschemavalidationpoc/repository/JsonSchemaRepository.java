@@ -1,15 +1,37 @@
 package org.example.jsonschemavalidationpoc.repository;
 
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
 import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-@Repository
-public interface JsonSchemaRepository extends JpaRepository<JsonSchemaEntity, Long> {
+/**
+ * Stored schema rows. Backed by JPA ({@link JpaJsonSchemaRepository}) or, with
+ * the "log-store" profile, by the local schema log.
+ */
+public interface JsonSchemaRepository {
     
     Optional<JsonSchemaEntity> findByTypeAndVersion(String type, String version);
     
     boolean existsByTypeAndVersion(String type, String version);
+    
+    List<SchemaSummary> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    List<SchemaSummary> findByTypeAndIdGreaterThanOrderByIdAsc(String type, Long afterId, Limit limit);
+    
+    /**
+     * Candidates for a set of type/version pairs; callers match the exact pairs
+     */
+    List<SchemaSummary> findByTypeInAndVersionIn(Collection<String> types, Collection<String> versions);
+    
+    List<JsonSchemaEntity> findAll();
+    
+    <S extends JsonSchemaEntity> S save(S entity);
+    
+    void deleteById(Long id);
+    
+    void deleteAll();
 }
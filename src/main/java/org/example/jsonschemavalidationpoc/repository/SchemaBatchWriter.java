@@ -0,0 +1,21 @@
+package org.example.jsonschemavalidationpoc.repository;
+
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores the rows of a bulk import in one write.
+ */
+public interface SchemaBatchWriter {
+    
+    /**
+     * Stores the bodies not stored yet and then the schema rows, all or nothing,
+     * and returns the rows with their ids. Throws a
+     * {@link org.springframework.dao.DataIntegrityViolationException} when a row
+     * conflicts with one saved concurrently.
+     */
+    List<JsonSchemaEntity> insertAll(Collection<SchemaContentEntity> contents, List<JsonSchemaEntity> schemas);
+}
@@ -0,0 +1,27 @@
+package org.example.jsonschemavalidationpoc.repository;
+
+import org.example.jsonschemavalidationpoc.entity.SchemaChangeEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SchemaChangeRepository extends JpaRepository<SchemaChangeEntity, Long> {
+    
+    List<SchemaChangeEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    @Query("select coalesce(max(c.id), 0) from SchemaChangeEntity c")
+    long findMaxId();
+    
+    @Modifying
+    @Transactional
+    @Query("delete from SchemaChangeEntity c where c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
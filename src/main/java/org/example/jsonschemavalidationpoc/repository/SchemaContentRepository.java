@@ -0,0 +1,26 @@
+package org.example.jsonschemavalidationpoc.repository;
+
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stored schema bodies by content hash. Backed by JPA ({@link JpaSchemaContentRepository})
+ * or, with the "log-store" profile, by the local schema log.
+ */
+public interface SchemaContentRepository {
+    
+    Optional<SchemaContentEntity> findById(String hash);
+    
+    boolean existsById(String hash);
+    
+    List<SchemaContentEntity> findAllById(Iterable<String> hashes);
+    
+    List<String> findExistingHashes(Collection<String> hashes);
+    
+    <S extends SchemaContentEntity> S save(S entity);
+    
+    void deleteAll();
+}
@@ -0,0 +1,71 @@
+package org.example.jsonschemavalidationpoc.repository.log;
+
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile(SchemaLogStore.PROFILE)
+@RequiredArgsConstructor
+public class LogJsonSchemaRepository implements JsonSchemaRepository {
+    
+    private final SchemaLogStore store;
+    
+    @Override
+    public Optional<JsonSchemaEntity> findByTypeAndVersion(String type, String version) {
+        return store.findSchema(type, version);
+    }
+    
+    @Override
+    public boolean existsByTypeAndVersion(String type, String version) {
+        return store.containsSchema(type, version);
+    }
+    
+    @Override
+    public List<SchemaSummary> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        return store.listSchemas(null, afterId, max(limit));
+    }
+    
+    @Override
+    public List<SchemaSummary> findByTypeAndIdGreaterThanOrderByIdAsc(String type, Long afterId, Limit limit) {
+        return store.listSchemas(type, afterId, max(limit));
+    }
+    
+    @Override
+    public List<SchemaSummary> findByTypeInAndVersionIn(Collection<String> types, Collection<String> versions) {
+        return store.findSchemas(types, versions);
+    }
+    
+    @Override
+    public List<JsonSchemaEntity> findAll() {
+        return store.findAllSchemas();
+    }
+    
+    @Override
+    public <S extends JsonSchemaEntity> S save(S entity) {
+        store.saveSchema(entity);
+        return entity;
+    }
+    
+    @Override
+    public void deleteById(Long id) {
+        store.deleteSchema(id);
+    }
+    
+    @Override
+    public void deleteAll() {
+        store.deleteAllSchemas();
+    }
+    
+    private static int max(Limit limit) {
+        return limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+    }
+}
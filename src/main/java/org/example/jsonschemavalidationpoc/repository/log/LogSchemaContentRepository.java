@@ -0,0 +1,53 @@
+package org.example.jsonschemavalidationpoc.repository.log;
+
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile(SchemaLogStore.PROFILE)
+@RequiredArgsConstructor
+public class LogSchemaContentRepository implements SchemaContentRepository {
+    
+    private final SchemaLogStore store;
+    
+    @Override
+    public Optional<SchemaContentEntity> findById(String hash) {
+        return store.findContent(hash);
+    }
+    
+    @Override
+    public boolean existsById(String hash) {
+        return store.containsContent(hash);
+    }
+    
+    @Override
+    public List<SchemaContentEntity> findAllById(Iterable<String> hashes) {
+        List<SchemaContentEntity> contents = new ArrayList<>();
+        hashes.forEach(hash -> store.findContent(hash).ifPresent(contents::add));
+        return contents;
+    }
+    
+    @Override
+    public List<String> findExistingHashes(Collection<String> hashes) {
+        return hashes.stream().filter(store::containsContent).toList();
+    }
+    
+    @Override
+    public <S extends SchemaContentEntity> S save(S entity) {
+        store.saveContent(entity);
+        return entity;
+    }
+    
+    @Override
+    public void deleteAll() {
+        store.deleteAllContents();
+    }
+}
@@ -0,0 +1,392 @@
+package org.example.jsonschemavalidationpoc.repository.log;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jsonschemavalidationpoc.config.SchemaLogStoreProperties;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
+import org.example.jsonschemavalidationpoc.entity.CompressionCodec;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentCompression;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.SchemaBatchWriter;
+import org.example.jsonschemavalidationpoc.repository.log.SegmentedLog.Entry;
+import org.example.jsonschemavalidationpoc.repository.log.SegmentedLog.LogRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Schema rows and bodies kept in a {@link SegmentedLog} on local disk instead
+ * of the database, for the "log-store" profile. Every save, delete and bulk
+ * import is one append. The rows and the log address of every body are held
+ * in memory and rebuilt from the log's index files on startup, so opening the
+ * store reads no schema bodies; those are read from the mapped segments when
+ * asked for. The log is never compacted: deleted rows stay in it.
+ */
+@Slf4j
+@Component
+@Profile(SchemaLogStore.PROFILE)
+class SchemaLogStore implements SchemaBatchWriter, DisposableBean {
+    
+    static final String PROFILE = "log-store";
+    
+    private static final byte CONTENT = 1;
+    private static final byte CONTENT_DELETED = 2;
+    private static final byte SCHEMA = 3;
+    private static final byte SCHEMA_DELETED = 4;
+    
+    /**
+     * Set on the codec byte of content records that also carry the compressed normalized and binary forms
+     */
+    private static final int COMPRESSED_FORMS = 0x40;
+    
+    private static final HexFormat HEX = HexFormat.of();
+    
+    private final SchemaContentCompression compression;
+    private final SegmentedLog segmentedLog;
+    
+    private final NavigableMap<Long, Row> rows = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableMap<Long, Row>> rowsByType = new ConcurrentHashMap<>();
+    private final Map<Key, Row> rowsByKey = new ConcurrentHashMap<>();
+    private final Map<String, Long> contentAddresses = new ConcurrentHashMap<>();
+    
+    // Guarded by this: keys being written, so two concurrent saves cannot both store one version
+    private final Set<Key> reserved = new HashSet<>();
+    private long lastId;
+    
+    SchemaLogStore(SchemaLogStoreProperties properties, SchemaContentCompression compression) throws IOException {
+        long start = System.nanoTime();
+        this.compression = compression;
+        this.segmentedLog = SegmentedLog.open(properties.getDirectory(), properties.getSegmentSize().toBytes());
+        segmentedLog.replay(this::replay);
+        log.info("Opened schema log {} with {} schemas in {} ms", properties.getDirectory().toAbsolutePath(),
+            rows.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    Optional<JsonSchemaEntity> findSchema(String type, String version) {
+        return Optional.ofNullable(rowsByKey.get(new Key(type, version))).map(Row::toEntity);
+    }
+    
+    boolean containsSchema(String type, String version) {
+        return rowsByKey.containsKey(new Key(type, version));
+    }
+    
+    List<JsonSchemaEntity> findAllSchemas() {
+        return rows.values().stream().map(Row::toEntity).toList();
+    }
+    
+    /**
+     * Rows after the given id in id order, of one type or of all types when the type is null
+     */
+    List<SchemaSummary> listSchemas(String type, long afterId, int limit) {
+        NavigableMap<Long, Row> candidates = type == null ? rows : rowsByType.getOrDefault(type, new ConcurrentSkipListMap<>());
+        return candidates.tailMap(afterId, false).values().stream()
+            .limit(limit)
+            .<SchemaSummary>map(row -> row)
+            .toList();
+    }
+    
+    List<SchemaSummary> findSchemas(Collection<String> types, Collection<String> versions) {
+        return types.stream()
+            .flatMap(type -> rowsByType.getOrDefault(type, new ConcurrentSkipListMap<>()).values().stream())
+            .filter(row -> versions.contains(row.getVersion()))
+            .<SchemaSummary>map(row -> row)
+            .toList();
+    }
+    
+    JsonSchemaEntity saveSchema(JsonSchemaEntity schema) {
+        insertAll(List.of(), List.of(schema));
+        return schema;
+    }
+    
+    void deleteSchema(Long id) {
+        Row row = rows.get(id);
+        if (row != null) {
+            append(List.of(new LogRecord(SCHEMA_DELETED, idKey(id), new byte[0])));
+            remove(row);
+        }
+    }
+    
+    void deleteAllSchemas() {
+        List<Row> deleted = List.copyOf(rows.values());
+        if (!deleted.isEmpty()) {
+            append(deleted.stream().map(row -> new LogRecord(SCHEMA_DELETED, idKey(row.getId()), new byte[0])).toList());
+            deleted.forEach(this::remove);
+        }
+    }
+    
+    Optional<SchemaContentEntity> findContent(String hash) {
+        return Optional.ofNullable(contentAddresses.get(hash))
+            .map(address -> decodeContent(hash, segmentedLog.read(address)));
+    }
+    
+    boolean containsContent(String hash) {
+        return contentAddresses.containsKey(hash);
+    }
+    
+    SchemaContentEntity saveContent(SchemaContentEntity content) {
+        insertAll(List.of(content), List.of());
+        return content;
+    }
+    
+    void deleteAllContents() {
+        List<String> deleted = List.copyOf(contentAddresses.keySet());
+        if (!deleted.isEmpty()) {
+            append(deleted.stream().map(hash -> new LogRecord(CONTENT_DELETED, HEX.parseHex(hash), new byte[0])).toList());
+            deleted.forEach(contentAddresses::remove);
+        }
+    }
+    
+    /**
+     * Appends the new bodies and the rows as one group of records, so they are synced together
+     */
+    @Override
+    public List<JsonSchemaEntity> insertAll(Collection<SchemaContentEntity> contents, List<JsonSchemaEntity> schemas) {
+        List<Key> keys = schemas.stream().map(schema -> new Key(schema.getType(), schema.getVersion())).toList();
+        List<Row> inserted = new ArrayList<>();
+        synchronized (this) {
+            Set<Key> batch = new HashSet<>();
+            for (Key key : keys) {
+                if (rowsByKey.containsKey(key) || reserved.contains(key) || !batch.add(key)) {
+                    throw new DataIntegrityViolationException("Schema with type '" + key.type() +
+                        "' and version '" + key.version() + "' is already stored");
+                }
+            }
+            for (JsonSchemaEntity schema : schemas) {
+                if (schema.getId() != null) {
+                    throw new InvalidDataAccessApiUsageException("Stored schemas cannot be updated");
+                }
+                inserted.add(new Row(++lastId, schema.getType(), schema.getVersion(),
+                    schema.getContentHash(), schema.getContentSize()));
+            }
+            reserved.addAll(keys);
+        }
+        
+        try {
+            Map<String, SchemaContentEntity> newContents = new LinkedHashMap<>();
+            contents.stream()
+                .filter(content -> !contentAddresses.containsKey(content.getHash()))
+                .forEach(content -> newContents.putIfAbsent(content.getHash(), content));
+            
+            List<LogRecord> records = new ArrayList<>();
+            for (SchemaContentEntity content : newContents.values()) {
+                compression.beforeInsert(content);
+                records.add(new LogRecord(CONTENT, HEX.parseHex(content.getHash()), encodeContent(content)));
+            }
+            inserted.forEach(row -> records.add(new LogRecord(SCHEMA, idKey(row.getId()), encodeRow(row))));
+            if (records.isEmpty()) {
+                return schemas;
+            }
+            
+            long[] addresses = append(records);
+            int index = 0;
+            for (String hash : newContents.keySet()) {
+                contentAddresses.put(hash, addresses[index++]);
+            }
+            for (int i = 0; i < inserted.size(); i++) {
+                add(inserted.get(i));
+                schemas.get(i).setId(inserted.get(i).getId());
+            }
+            return schemas;
+        } finally {
+            synchronized (this) {
+                reserved.removeAll(keys);
+            }
+        }
+    }
+    
+    @Override
+    public void destroy() throws IOException {
+        segmentedLog.close();
+    }
+    
+    private long[] append(List<LogRecord> records) {
+        try {
+            return segmentedLog.append(records).join();
+        } catch (CompletionException e) {
+            throw new DataAccessResourceFailureException("Could not write to the schema log", e.getCause());
+        }
+    }
+    
+    private void replay(Entry entry) {
+        switch (entry.kind()) {
+            case CONTENT -> contentAddresses.put(HEX.formatHex(entry.key()), entry.address());
+            case CONTENT_DELETED -> contentAddresses.remove(HEX.formatHex(entry.key()));
+            case SCHEMA -> {
+                Row row = decodeRow(segmentedLog.read(entry.address()));
+                add(row);
+                lastId = Math.max(lastId, row.getId());
+            }
+            case SCHEMA_DELETED -> {
+                Row row = rows.get(ByteBuffer.wrap(entry.key()).getLong());
+                if (row != null) {
+                    remove(row);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown schema log record kind " + entry.kind());
+        }
+    }
+    
+    private void add(Row row) {
+        rows.put(row.getId(), row);
+        rowsByType.computeIfAbsent(row.getType(), type -> new ConcurrentSkipListMap<>()).put(row.getId(), row);
+        rowsByKey.put(new Key(row.getType(), row.getVersion()), row);
+    }
+    
+    private void remove(Row row) {
+        rows.remove(row.getId());
+        Optional.ofNullable(rowsByType.get(row.getType())).ifPresent(byId -> byId.remove(row.getId()));
+        rowsByKey.remove(new Key(row.getType(), row.getVersion()), row);
+    }
+    
+    private static byte[] idKey(long id) {
+        return ByteBuffer.allocate(SegmentedLog.KEY_SIZE).putLong(id).array();
+    }
+    
+    private static byte[] encodeRow(Row row) {
+        return encode(out -> {
+            out.writeLong(row.getId());
+            writeString(out, row.getType());
+            writeString(out, row.getVersion());
+            writeString(out, row.getContentHash());
+            out.writeInt(row.getContentSize());
+        });
+    }
+    
+    private static Row decodeRow(ByteBuffer payload) {
+        return new Row(payload.getLong(), readString(payload), readString(payload), readString(payload),
+            payload.getInt());
+    }
+    
+    private static byte[] encodeContent(SchemaContentEntity content) {
+        return encode(out -> {
+            int codec = content.isCompressed() ? content.getCompression().ordinal() + 1 : 0;
+            out.writeByte(content.isCompressed() ? codec | COMPRESSED_FORMS : codec);
+            if (content.isCompressed()) {
+                writeBytes(out, content.getCompressedContent());
+            } else {
+                writeString(out, content.getContent());
+            }
+            writeString(out, content.getNormalizedContent());
+            writeBytes(out, content.getBinaryContent());
+            if (content.isCompressed()) {
+                writeBytes(out, content.getCompressedNormalizedContent());
+                writeBytes(out, content.getCompressedBinaryContent());
+            }
+        });
+    }
+    
+    private static SchemaContentEntity decodeContent(String hash, ByteBuffer payload) {
+        int flags = payload.get();
+        int codec = flags & ~COMPRESSED_FORMS;
+        SchemaContentEntity content = new SchemaContentEntity();
+        content.setHash(hash);
+        if (codec == 0) {
+            content.setContent(readString(payload));
+        } else {
+            content.setCompression(CompressionCodec.values()[codec - 1]);
+            content.setCompressedContent(readBytes(payload));
+        }
+        content.setNormalizedContent(readString(payload));
+        content.setBinaryContent(readBytes(payload));
+        if ((flags & COMPRESSED_FORMS) != 0) {
+            content.setCompressedNormalizedContent(readBytes(payload));
+            content.setCompressedBinaryContent(readBytes(payload));
+        }
+        return content;
+    }
+    
+    private static byte[] encode(Encoder encoder) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            encoder.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Length-prefixed bytes; a length of -1 stands for null
+     */
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+    
+    private static String readString(ByteBuffer payload) {
+        byte[] value = readBytes(payload);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] readBytes(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        payload.get(value);
+        return value;
+    }
+    
+    @FunctionalInterface
+    private interface Encoder {
+        void write(DataOutputStream out) throws IOException;
+    }
+    
+    private record Key(String type, String version) {
+    }
+    
+    /**
+     * A stored row without its content; also what listings return
+     */
+    @Value
+    private static class Row implements SchemaSummary {
+        Long id;
+        String type;
+        String version;
+        String contentHash;
+        Integer contentSize;
+        
+        JsonSchemaEntity toEntity() {
+            JsonSchemaEntity entity = new JsonSchemaEntity();
+            entity.setId(id);
+            entity.setType(type);
+            entity.setVersion(version);
+            entity.setContentHash(contentHash);
+            entity.setContentSize(contentSize);
+            return entity;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package org.example.jsonschemavalidationpoc.repository.log;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only log kept in numbered segment files. Every record has a kind,
+ * a 32-byte key and a payload, and is checksummed, so a write torn by a crash
+ * is cut off when the log is reopened.
+ * <p>
+ * Appends are handed to a single writer thread, which writes everything queued
+ * since its last sync and then syncs once: concurrent writers share one fsync.
+ * When a segment is full it is sealed, memory-mapped for reading, and the
+ * kind, key and address of its records are written to an index file beside
+ * it. Reopening maps those index files instead of reading the segments, so
+ * only the last segment is ever scanned.
+ */
+@Slf4j
+final class SegmentedLog implements Closeable {
+    
+    static final int KEY_SIZE = 32;
+    
+    /**
+     * Payload length, CRC32C of kind, key and payload, kind, key
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 1 + KEY_SIZE;
+    
+    /**
+     * Address, kind, key
+     */
+    private static final int INDEX_ENTRY_SIZE = 8 + 1 + KEY_SIZE;
+    
+    private static final PendingAppend CLOSE = new PendingAppend(List.of(), new CompletableFuture<>());
+    
+    private final Path directory;
+    private final long segmentSize;
+    private final NavigableMap<Integer, MappedByteBuffer> sealed = new ConcurrentSkipListMap<>();
+    private final Map<Integer, FileChannel> channels = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    
+    // Owned by the writer thread once the log is open
+    private int activeNumber;
+    private FileChannel active;
+    private long activeSize;
+    private final List<Entry> activeEntries = new ArrayList<>();
+    
+    private Thread writer;
+    private boolean closed;
+    
+    private SegmentedLog(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+    
+    /**
+     * Opens the log in the given directory, creating it if needed, and cuts off a torn last record
+     */
+    static SegmentedLog open(Path directory, long segmentSize) throws IOException {
+        if (segmentSize < HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + HEADER_SIZE +
+                " bytes and 2 GB, was " + segmentSize);
+        }
+        Files.createDirectories(directory);
+        SegmentedLog segmentedLog = new SegmentedLog(directory, segmentSize);
+        segmentedLog.recover();
+        segmentedLog.writer = Thread.ofPlatform().name("schema-log-writer").daemon().start(segmentedLog::writeLoop);
+        return segmentedLog;
+    }
+    
+    /**
+     * Visits the entry of every record in append order. Must be called before the first append.
+     */
+    void replay(Consumer<Entry> visitor) throws IOException {
+        for (int number : sealed.keySet()) {
+            try (FileChannel channel = FileChannel.open(index(number), READ)) {
+                MappedByteBuffer index = channel.map(READ_ONLY, 0, channel.size());
+                for (int position = 0; position + INDEX_ENTRY_SIZE <= index.limit(); position += INDEX_ENTRY_SIZE) {
+                    byte[] key = new byte[KEY_SIZE];
+                    index.get(position + 9, key);
+                    visitor.accept(new Entry(index.getLong(position), index.get(position + 8), key));
+                }
+            }
+        }
+        activeEntries.forEach(visitor);
+    }
+    
+    /**
+     * Queues records to be appended together. The future completes with their
+     * addresses once they are synced to disk.
+     */
+    CompletableFuture<long[]> append(List<LogRecord> records) {
+        PendingAppend pending = new PendingAppend(records, new CompletableFuture<>());
+        synchronized (this) {
+            if (closed) {
+                pending.result().completeExceptionally(new IllegalStateException("The schema log is closed"));
+            } else {
+                queue.add(pending);
+            }
+        }
+        return pending.result();
+    }
+    
+    /**
+     * Payload of the record at an address returned by {@link #append} or {@link #replay}
+     */
+    ByteBuffer read(long address) {
+        int number = (int) (address >>> 32);
+        int offset = (int) address;
+        MappedByteBuffer segment = sealed.get(number);
+        if (segment != null) {
+            return segment.slice(offset + HEADER_SIZE, segment.getInt(offset)).asReadOnlyBuffer();
+        }
+        // The active segment is read with positional reads until it is sealed and mapped
+        FileChannel channel = channels.get(number);
+        if (channel == null) {
+            throw new IllegalArgumentException("No schema log segment " + number);
+        }
+        try {
+            int length = readAt(channel, offset, 4).getInt();
+            return readAt(channel, offset + HEADER_SIZE, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Waits for the queued appends to be written and closes the segments
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(CLOSE);
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (FileChannel channel : channels.values()) {
+            channel.close();
+        }
+    }
+    
+    private void recover() throws IOException {
+        List<Integer> numbers = segmentNumbers();
+        int last = numbers.isEmpty() ? 1 : numbers.get(numbers.size() - 1);
+        for (int number : numbers) {
+            if (number == last) {
+                break;
+            }
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(segment(number), READ)) {
+                // The mapping stays valid once the channel is closed
+                segment = channel.map(READ_ONLY, 0, channel.size());
+            }
+            sealed.put(number, segment);
+            if (!Files.exists(index(number))) {
+                // Sealed by a process that stopped before writing the index
+                List<Entry> entries = new ArrayList<>();
+                scan(number, segment, entries::add);
+                writeIndex(number, entries);
+            }
+        }
+        
+        activeNumber = last;
+        active = FileChannel.open(segment(last), CREATE, READ, WRITE);
+        channels.put(last, active);
+        long size = active.size();
+        if (size > 0) {
+            activeSize = scan(last, active.map(READ_ONLY, 0, size), activeEntries::add);
+        }
+        if (activeSize < size) {
+            log.warn("Discarding {} bytes of an unfinished write at the end of {}",
+                size - activeSize, segment(last));
+            active.truncate(activeSize);
+            active.force(true);
+        }
+        active.position(activeSize);
+    }
+    
+    /**
+     * Visits the valid records of a segment and returns where they end
+     */
+    private static int scan(int number, ByteBuffer segment, Consumer<Entry> visitor) {
+        int position = 0;
+        while (segment.limit() - position >= HEADER_SIZE) {
+            int length = segment.getInt(position);
+            if (length < 0 || length > segment.limit() - position - HEADER_SIZE) {
+                break;
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(segment.slice(position + 8, 1 + KEY_SIZE + length));
+            if ((int) checksum.getValue() != segment.getInt(position + 4)) {
+                break;
+            }
+            byte[] key = new byte[KEY_SIZE];
+            segment.get(position + 9, key);
+            visitor.accept(new Entry(address(number, position), segment.get(position + 8), key));
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+    
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>();
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            closing = batch.remove(CLOSE);
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+            batch.clear();
+        }
+    }
+    
+    /**
+     * Writes a batch of appends into one segment and syncs it once
+     */
+    private void commit(List<PendingAppend> batch) {
+        long batchSize = batch.stream()
+            .flatMap(pending -> pending.records().stream())
+            .mapToLong(record -> HEADER_SIZE + record.payload().length)
+            .sum();
+        List<long[]> addresses = new ArrayList<>(batch.size());
+        long startSize = activeSize;
+        int startEntries = activeEntries.size();
+        try {
+            if (activeSize > 0 && activeSize + batchSize > segmentSize) {
+                roll();
+                startSize = 0;
+                startEntries = 0;
+            }
+            for (PendingAppend pending : batch) {
+                addresses.add(write(pending.records()));
+            }
+            active.force(false);
+        } catch (IOException | RuntimeException e) {
+            discard(startSize, startEntries);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(addresses.get(i));
+        }
+    }
+    
+    private long[] write(List<LogRecord> records) throws IOException {
+        long[] addresses = new long[records.size()];
+        ByteBuffer[] buffers = new ByteBuffer[records.size() * 2];
+        long position = activeSize;
+        for (int i = 0; i < records.size(); i++) {
+            LogRecord record = records.get(i);
+            CRC32C checksum = new CRC32C();
+            checksum.update(record.kind());
+            checksum.update(record.key());
+            checksum.update(record.payload());
+            buffers[i * 2] = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(record.payload().length)
+                .putInt((int) checksum.getValue())
+                .put(record.kind())
+                .put(record.key())
+                .flip();
+            buffers[i * 2 + 1] = ByteBuffer.wrap(record.payload());
+            addresses[i] = address(activeNumber, position);
+            position += HEADER_SIZE + record.payload().length;
+        }
+        
+        while (hasRemaining(buffers)) {
+            active.write(buffers);
+        }
+        for (int i = 0; i < records.size(); i++) {
+            activeEntries.add(new Entry(addresses[i], records.get(i).kind(), records.get(i).key()));
+        }
+        activeSize = position;
+        return addresses;
+    }
+    
+    /**
+     * Seals the active segment and starts the next one
+     */
+    private void roll() throws IOException {
+        active.force(true);
+        writeIndex(activeNumber, activeEntries);
+        MappedByteBuffer segment = active.map(READ_ONLY, 0, activeSize);
+        int next = activeNumber + 1;
+        FileChannel channel = FileChannel.open(segment(next), CREATE_NEW, READ, WRITE);
+        // Readers that picked up the old channel can keep using it; it is closed with the log
+        sealed.put(activeNumber, segment);
+        channels.put(next, channel);
+        activeNumber = next;
+        active = channel;
+        activeSize = 0;
+        activeEntries.clear();
+    }
+    
+    /**
+     * Drops a partly written batch so the next one does not land behind it
+     */
+    private void discard(long size, int entries) {
+        try {
+            active.truncate(size);
+            active.position(size);
+        } catch (IOException e) {
+            log.error("Could not discard a failed write to {}", segment(activeNumber), e);
+        }
+        activeSize = size;
+        activeEntries.subList(entries, activeEntries.size()).clear();
+    }
+    
+    private void writeIndex(int number, List<Entry> entries) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(entries.size() * INDEX_ENTRY_SIZE);
+        for (Entry entry : entries) {
+            buffer.putLong(entry.address()).put(entry.kind()).put(entry.key());
+        }
+        buffer.flip();
+        
+        Path temporary = directory.resolve(index(number).getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, index(number), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+    
+    private List<Integer> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith("segment-") && name.endsWith(".log"))
+                .map(name -> Integer.parseInt(name.substring("segment-".length(), name.length() - ".log".length())))
+                .sorted()
+                .toList();
+        }
+    }
+    
+    private Path segment(int number) {
+        return directory.resolve("segment-%010d.log".formatted(number));
+    }
+    
+    private Path index(int number) {
+        return directory.resolve("segment-%010d.idx".formatted(number));
+    }
+    
+    private static long address(int number, long offset) {
+        return ((long) number << 32) | offset;
+    }
+    
+    private static ByteBuffer readAt(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Schema log record at " + position + " is cut short");
+            }
+        }
+        return buffer.flip();
+    }
+    
+    private static boolean hasRemaining(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * A record to append. The key is exactly {@link #KEY_SIZE} bytes.
+     */
+    record LogRecord(byte kind, byte[] key, byte[] payload) {
+        
+        LogRecord {
+            if (key.length != KEY_SIZE) {
+                throw new IllegalArgumentException("Log record keys are " + KEY_SIZE + " bytes");
+            }
+        }
+    }
+    
+    /**
+     * A stored record, without its payload
+     */
+    record Entry(long address, byte kind, byte[] key) {
+    }
+    
+    private record PendingAppend(List<LogRecord> records, CompletableFuture<long[]> result) {
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps generated Avro schemas, POJO source jars and compiled POJO jars per
+ * content hash, so every version sharing the same schema body reuses one
+ * artifact. Bounded by the
+ * approximate size of the artifacts in bytes.
+ */
+@Component
+public class ArtifactCache implements MeterBinder {
+
+    private final Cache<ArtifactKey, Object> cache;
+    private final long maximumEntrySize;
+
+    public ArtifactCache(SchemaCacheProperties properties) {
+        this.maximumEntrySize = properties.getArtifactMaximumEntrySize();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getArtifactMaximumWeight())
+            .weigher((ArtifactKey key, Object value) -> value instanceof byte[] bytes 
+                ? bytes.length 
+                : ((String) value).length() * 2)
+            .recordStats()
+            .build();
+    }
+
+    public String avroSchema(String contentHash, String name, Supplier<String> generator) {
+        return (String) cache.get(new ArtifactKey(contentHash, Kind.AVRO, name), key -> generator.get());
+    }
+
+    public byte[] pojoJar(String contentHash, String name, Supplier<byte[]> generator) {
+        return (byte[]) cache.get(new ArtifactKey(contentHash, Kind.JAR, name), key -> generator.get());
+    }
+
+    public byte[] pojoClassesJar(String contentHash, String name, Supplier<byte[]> generator) {
+        return (byte[]) cache.get(new ArtifactKey(contentHash, Kind.CLASSES, name), key -> generator.get());
+    }
+
+    /**
+     * The POJO jar from the cache, or else generated into memory and cached.
+     * Generation is cut short and empty returned once the jar grows past the
+     * entry size limit, for the caller to stream it with writePojoJar instead.
+     */
+    public Optional<byte[]> bufferPojoJar(String contentHash, String name, Consumer<OutputStream> generator) {
+        return buffer(new ArtifactKey(contentHash, Kind.JAR, name), generator);
+    }
+
+    public Optional<byte[]> bufferPojoClassesJar(String contentHash, String name, Consumer<OutputStream> generator) {
+        return buffer(new ArtifactKey(contentHash, Kind.CLASSES, name), generator);
+    }
+
+    /**
+     * Writes the POJO jar to out, from the cache when present or else as the
+     * generator produces it, keeping a copy when it fits the entry size limit
+     */
+    public void writePojoJar(String contentHash, String name, OutputStream out, 
+            Consumer<OutputStream> generator) throws IOException {
+        write(new ArtifactKey(contentHash, Kind.JAR, name), out, generator);
+    }
+
+    public void writePojoClassesJar(String contentHash, String name, OutputStream out, 
+            Consumer<OutputStream> generator) throws IOException {
+        write(new ArtifactKey(contentHash, Kind.CLASSES, name), out, generator);
+    }
+
+    private Optional<byte[]> buffer(ArtifactKey key, Consumer<OutputStream> generator) {
+        if (cache.getIfPresent(key) instanceof byte[] cached) {
+            return Optional.of(cached);
+        }
+        BoundedBuffer buffer = new BoundedBuffer(maximumEntrySize);
+        try {
+            generator.accept(buffer);
+        } catch (RuntimeException e) {
+            if (buffer.overflowed) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+        if (buffer.overflowed) {
+            return Optional.empty();
+        }
+        byte[] bytes = buffer.bytes.toByteArray();
+        Object existing = cache.asMap().putIfAbsent(key, bytes);
+        return Optional.of(existing instanceof byte[] kept ? kept : bytes);
+    }
+
+    private void write(ArtifactKey key, OutputStream out, Consumer<OutputStream> generator) throws IOException {
+        if (cache.getIfPresent(key) instanceof byte[] cached) {
+            out.write(cached);
+            return;
+        }
+        CapturingOutputStream capturing = new CapturingOutputStream(out, maximumEntrySize);
+        generator.accept(capturing);
+        byte[] captured = capturing.captured();
+        if (captured != null) {
+            cache.asMap().putIfAbsent(key, captured);
+        }
+    }
+
+    /**
+     * Drops every artifact generated from this content
+     */
+    public void invalidate(String contentHash) {
+        cache.asMap().keySet().removeIf(key -> key.contentHash().equals(contentHash));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "schemaArtifacts");
+    }
+
+    private enum Kind { AVRO, JAR, CLASSES }
+
+    /**
+     * Passes writes through and keeps a copy until it grows past the limit.
+     * Closing it leaves the underlying stream open for the caller.
+     */
+    private static final class CapturingOutputStream extends FilterOutputStream {
+
+        private final long limit;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        CapturingOutputStream(OutputStream out, long limit) {
+            super(out);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            capture(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        byte[] captured() {
+            return copy == null ? null : copy.toByteArray();
+        }
+
+        private void capture(byte[] b, int off, int len) {
+            if (copy != null && copy.size() + len > limit) {
+                copy = null;
+            }
+            if (copy != null) {
+                copy.write(b, off, len);
+            }
+        }
+    }
+
+    /**
+     * Collects an artifact in memory and fails the write that takes it past the
+     * limit, which stops generation as soon as the artifact is known not to fit.
+     */
+    private static final class BoundedBuffer extends OutputStream {
+
+        private final long limit;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private boolean overflowed;
+
+        BoundedBuffer(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (bytes.size() + (long) len > limit) {
+                overflowed = true;
+                throw new IOException("Artifact is larger than " + limit + " bytes");
+            }
+            bytes.write(b, off, len);
+        }
+    }
+
+    /**
+     * Artifacts also depend on the name they are generated for, such as the Avro record or root class name
+     */
+    private record ArtifactKey(String contentHash, Kind kind, String name) {
+    }
+}
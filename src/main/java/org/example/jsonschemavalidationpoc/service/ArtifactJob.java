@@ -0,0 +1,78 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobRequest;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+/**
+ * One artifact generation, queued on the artifact job executor. A succeeded
+ * job holds its artifact until it is purged, so fetching the result never
+ * generates on a request thread.
+ */
+@Getter
+public class ArtifactJob implements Runnable, Comparable<ArtifactJob> {
+    
+    private static final Comparator<ArtifactJob> ORDER = Comparator
+        .comparing(ArtifactJob::getPriority)
+        .thenComparingLong(ArtifactJob::getSequence);
+    
+    private final String id;
+    private final SchemaKey key;
+    private final ArtifactJobRequest.Kind kind;
+    private final ArtifactJobRequest.Priority priority;
+    private final long sequence;
+    @Getter(AccessLevel.NONE)
+    private final Clock clock;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Object> generator;
+    
+    private volatile ArtifactJobResponse.Status status = ArtifactJobResponse.Status.QUEUED;
+    @Getter(AccessLevel.PACKAGE)
+    private volatile Object result;
+    private volatile String error;
+    private volatile Instant finishedAt;
+    
+    ArtifactJob(String id, SchemaKey key, ArtifactJobRequest.Kind kind, ArtifactJobRequest.Priority priority, 
+            long sequence, Clock clock, Supplier<Object> generator) {
+        this.id = id;
+        this.key = key;
+        this.kind = kind;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.clock = clock;
+        this.generator = generator;
+    }
+    
+    @Override
+    public void run() {
+        status = ArtifactJobResponse.Status.RUNNING;
+        try {
+            result = generator.get();
+            status = ArtifactJobResponse.Status.SUCCEEDED;
+        } catch (Exception e) {
+            error = e.getMessage();
+            status = ArtifactJobResponse.Status.FAILED;
+        } finally {
+            finishedAt = clock.instant();
+        }
+    }
+    
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+    
+    public ArtifactJobResponse toResponse() {
+        return new ArtifactJobResponse(id, key.type(), key.version(), kind, priority, status, error);
+    }
+    
+    @Override
+    public int compareTo(ArtifactJob other) {
+        return ORDER.compare(this, other);
+    }
+}
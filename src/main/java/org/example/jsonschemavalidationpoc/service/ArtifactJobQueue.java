@@ -0,0 +1,31 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Work queue for the artifact job executor. Jobs leave it in priority order,
+ * and it refuses new jobs once it holds its capacity, so the executor rejects
+ * them instead of queueing without bound.
+ */
+public class ArtifactJobQueue extends PriorityBlockingQueue<Runnable> {
+    
+    private final int capacity;
+    
+    public ArtifactJobQueue(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    /**
+     * add and put also go through here. Only offers are serialized: the size
+     * can only shrink in between, so the capacity is never exceeded.
+     */
+    @Override
+    public synchronized boolean offer(Runnable job) {
+        return size() < capacity && super.offer(job);
+    }
+    
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+}
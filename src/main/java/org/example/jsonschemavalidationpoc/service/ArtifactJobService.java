@@ -0,0 +1,152 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jsonschemavalidationpoc.config.ArtifactJobProperties;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobRequest;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs jar and Avro generation as jobs on the bounded artifact job executor,
+ * so slow generation does not hold request threads. Finished jobs and their
+ * artifacts are kept for the configured retention, within the result budget.
+ */
+@Slf4j
+@Service
+public class ArtifactJobService implements MeterBinder {
+    
+    private final JsonSchemaService jsonSchemaService;
+    private final ThreadPoolExecutor artifactJobExecutor;
+    private final ArtifactJobProperties properties;
+    private final Clock clock;
+    private final Map<String, ArtifactJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    
+    @Autowired
+    public ArtifactJobService(JsonSchemaService jsonSchemaService, ThreadPoolExecutor artifactJobExecutor, 
+            ArtifactJobProperties properties) {
+        this(jsonSchemaService, artifactJobExecutor, properties, Clock.systemUTC());
+    }
+    
+    ArtifactJobService(JsonSchemaService jsonSchemaService, ThreadPoolExecutor artifactJobExecutor, 
+            ArtifactJobProperties properties, Clock clock) {
+        this.jsonSchemaService = jsonSchemaService;
+        this.artifactJobExecutor = artifactJobExecutor;
+        this.properties = properties;
+        this.clock = clock;
+    }
+    
+    /**
+     * Queues a job for the resolved schema version.
+     *
+     * @throws RejectedExecutionException when the job queue is full
+     */
+    public ArtifactJobResponse submit(ArtifactJobRequest request) {
+        if (request.getKind() == null) {
+            throw new IllegalArgumentException("Job kind is required: JAR, COMPILED_JAR or AVRO");
+        }
+        SchemaKey key = jsonSchemaService.resolveKey(request.getType(), request.getVersion());
+        ArtifactJobRequest.Kind kind = request.getKind();
+        ArtifactJobRequest.Priority priority = request.getPriority() != null 
+            ? request.getPriority() 
+            : ArtifactJobRequest.Priority.NORMAL;
+        
+        ArtifactJob job = new ArtifactJob(UUID.randomUUID().toString(), key, kind, priority, 
+            sequence.incrementAndGet(), clock, () -> retain(generate(key, kind)));
+        jobs.put(job.getId(), job);
+        try {
+            artifactJobExecutor.execute(job);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job.toResponse();
+    }
+    
+    public Optional<ArtifactJob> findJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+    
+    /**
+     * The jar bytes or Avro schema a succeeded job generated
+     */
+    public Object getResult(ArtifactJob job) {
+        if (job.getStatus() != ArtifactJobResponse.Status.SUCCEEDED) {
+            throw new IllegalStateException("Job " + job.getId() + " is " + job.getStatus());
+        }
+        return job.getResult();
+    }
+    
+    @Scheduled(fixedDelayString = "${schema.jobs.purge-interval:1m}")
+    public void purge() {
+        Instant cutoff = clock.instant().minus(properties.getRetention());
+        int purged = 0;
+        for (ArtifactJob job : jobs.values()) {
+            if (job.isFinished() && job.getFinishedAt().isBefore(cutoff) && jobs.remove(job.getId(), job)) {
+                retainedBytes.addAndGet(-sizeOf(job.getResult()));
+                purged++;
+            }
+        }
+        log.debug("Purged {} artifact jobs", purged);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("schema.jobs.queued", artifactJobExecutor, executor -> executor.getQueue().size())
+            .description("Artifact jobs waiting for a worker")
+            .register(registry);
+        Gauge.builder("schema.jobs.active", artifactJobExecutor, ThreadPoolExecutor::getActiveCount)
+            .description("Artifact jobs being generated")
+            .register(registry);
+        Gauge.builder("schema.jobs.retained.bytes", retainedBytes, AtomicLong::get)
+            .description("Size of the artifacts held by retained jobs")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+    
+    /**
+     * Counts the artifact against the result budget, failing the job if it does not fit
+     */
+    private Object retain(Object artifact) {
+        long size = sizeOf(artifact);
+        long budget = properties.getResultBudget().toBytes();
+        if (retainedBytes.addAndGet(size) > budget) {
+            retainedBytes.addAndGet(-size);
+            throw new IllegalStateException("Artifact of " + size + " bytes does not fit the job result budget of " 
+                + budget + " bytes; download it directly or retry once older jobs are purged");
+        }
+        return artifact;
+    }
+    
+    private static long sizeOf(Object artifact) {
+        if (artifact instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return artifact instanceof String text ? text.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+    
+    private Object generate(SchemaKey key, ArtifactJobRequest.Kind kind) {
+        return switch (kind) {
+            case JAR -> jsonSchemaService.generatePojoJar(key.type(), key.version());
+            case COMPILED_JAR -> jsonSchemaService.generatePojoClassesJar(key.type(), key.version());
+            case AVRO -> jsonSchemaService.getAvroSchema(key.type(), key.version());
+        };
+    }
+}
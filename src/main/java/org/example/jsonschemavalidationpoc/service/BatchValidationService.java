@@ -0,0 +1,52 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.config.BatchValidationProperties;
+import org.example.jsonschemavalidationpoc.dto.BatchValidationRequest;
+import org.example.jsonschemavalidationpoc.dto.BatchValidationResponse;
+import org.example.jsonschemavalidationpoc.dto.ValidationMode;
+import org.example.jsonschemavalidationpoc.dto.ValidationResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+@RequiredArgsConstructor
+public class BatchValidationService {
+    
+    private final JsonSchemaService jsonSchemaService;
+    private final ForkJoinPool batchValidationPool;
+    private final BatchValidationProperties properties;
+    
+    /**
+     * Validates every document of the batch against one schema, resolving and
+     * compiling the schema once. Results are returned in input order.
+     */
+    public BatchValidationResponse validateBatch(BatchValidationRequest request) {
+        return validateBatch(request, ValidationMode.FULL);
+    }
+    
+    public BatchValidationResponse validateBatch(BatchValidationRequest request, ValidationMode mode) {
+        if (request.getDocuments() == null || request.getDocuments().isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one document");
+        }
+        if (request.getDocuments().size() > properties.getMaxSize()) {
+            throw new IllegalArgumentException("Batch of " + request.getDocuments().size() + 
+                " documents exceeds the maximum of " + properties.getMaxSize());
+        }
+        
+        SchemaKey key = jsonSchemaService.resolveKey(request.getType(), request.getVersion());
+        CompiledSchema compiled = jsonSchemaService.getCompiledSchema(key.type(), key.version());
+        
+        // A parallel stream started from inside the pool runs on the pool's workers
+        List<ValidationResponse> results = batchValidationPool.submit(() -> request.getDocuments()
+                .parallelStream()
+                .map(document -> jsonSchemaService.validateNode(key, compiled, document, mode))
+                .toList())
+            .join();
+        
+        int validCount = (int) results.stream().filter(ValidationResponse::isValid).count();
+        return new BatchValidationResponse(results.size(), validCount, results);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.networknt.schema.JsonSchema;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A ready-to-use validator together with the size of the source it was built
+ * from, plus the optional specialized validator promoted for hot schemas.
+ */
+public final class CompiledSchema {
+    
+    private final JsonSchema schema;
+    private final int weight;
+    private final Set<SchemaKey> references;
+    private final AtomicLong uses = new AtomicLong();
+    private final AtomicBoolean specializationClaimed = new AtomicBoolean();
+    private volatile SpecializedValidator specialized;
+    
+    public CompiledSchema(JsonSchema schema, int weight) {
+        this(schema, weight, Set.of());
+    }
+    
+    public CompiledSchema(JsonSchema schema, int weight, Set<SchemaKey> references) {
+        this.schema = schema;
+        this.weight = weight;
+        this.references = references;
+    }
+    
+    public JsonSchema schema() {
+        return schema;
+    }
+    
+    public int weight() {
+        return weight;
+    }
+    
+    /**
+     * Whether this validator was built with the given stored schema, referenced
+     * by exact version or by a selector that a new version of its type may change
+     */
+    public boolean references(SchemaKey stored) {
+        return references.stream().anyMatch(reference -> reference.type().equals(stored.type()) 
+            && (reference.version().equals(stored.version()) || VersionRange.isSelector(reference.version())));
+    }
+    
+    public SpecializedValidator specialized() {
+        return specialized;
+    }
+    
+    long recordUse() {
+        return uses.incrementAndGet();
+    }
+    
+    boolean isSpecializationClaimed() {
+        return specializationClaimed.get();
+    }
+    
+    /**
+     * Lets exactly one caller build the specialized validator
+     */
+    boolean claimSpecialization() {
+        return specializationClaimed.compareAndSet(false, true);
+    }
+    
+    void setSpecialized(SpecializedValidator specialized) {
+        this.specialized = specialized;
+    }
+}
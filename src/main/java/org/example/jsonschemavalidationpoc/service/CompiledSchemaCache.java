@@ -0,0 +1,69 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Keeps compiled validators per schema content hash, so versions with identical
+ * content share one validator. Bounded by the total size of the schema sources
+ * they were compiled from.
+ */
+@Component
+public class CompiledSchemaCache implements MeterBinder {
+
+    private final Cache<String, CompiledSchema> cache;
+
+    public CompiledSchemaCache(SchemaCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaximumWeight())
+            .weigher((String contentHash, CompiledSchema value) -> value.weight())
+            .recordStats()
+            .build();
+    }
+
+    public CompiledSchema get(String contentHash, Function<String, CompiledSchema> loader) {
+        return cache.get(contentHash, loader);
+    }
+
+    public void invalidate(String contentHash) {
+        cache.invalidate(contentHash);
+    }
+
+    /**
+     * Drops the validators whose reference graph includes the given schema
+     */
+    public void invalidateReferencing(SchemaKey stored) {
+        cache.asMap().values().removeIf(compiled -> compiled.references(stored));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "compiledSchemas");
+    }
+    
+    public long weightedSize() {
+        return cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for a shared channel when every instance runs in one JVM, such as
+ * several application contexts in a test. Events are delivered synchronously,
+ * on the publishing thread, to every subscriber in the JVM; an event published
+ * in a transaction is delivered once it commits, and dropped on rollback.
+ */
+@Component
+@ConditionalOnProperty(name = "schema.changes.channel", havingValue = "in-memory")
+public class InMemorySchemaChangeChannel implements SchemaChangeChannel, DisposableBean {
+    
+    private static final List<Consumer<SchemaChangeEvent>> JVM_SUBSCRIBERS = new CopyOnWriteArrayList<>();
+    
+    private final List<Consumer<SchemaChangeEvent>> shared;
+    private final List<Consumer<SchemaChangeEvent>> own = new CopyOnWriteArrayList<>();
+    
+    public InMemorySchemaChangeChannel() {
+        this(JVM_SUBSCRIBERS);
+    }
+    
+    /**
+     * A channel connected only to the other channels created with the same subscriber list
+     */
+    InMemorySchemaChangeChannel(List<Consumer<SchemaChangeEvent>> shared) {
+        this.shared = shared;
+    }
+    
+    @Override
+    public void publish(SchemaChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(event);
+                }
+            });
+        } else {
+            deliver(event);
+        }
+    }
+    
+    private void deliver(SchemaChangeEvent event) {
+        shared.forEach(subscriber -> subscriber.accept(event));
+    }
+    
+    @Override
+    public void subscribe(Consumer<SchemaChangeEvent> subscriber) {
+        own.add(subscriber);
+        shared.add(subscriber);
+    }
+    
+    /**
+     * Disconnects the subscribers of a closed context
+     */
+    @Override
+    public void destroy() {
+        shared.removeAll(own);
+        own.clear();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.sun.codemodel.CodeWriter;
+import com.sun.codemodel.JPackage;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Streams each file JCodeModel builds straight into a jar entry, so generated
+ * sources never touch the filesystem. The jar itself is owned by the caller.
+ */
+final class JarCodeWriter extends CodeWriter {
+    
+    private final JarOutputStream jar;
+    private final LocalDateTime entryTime;
+    
+    JarCodeWriter(JarOutputStream jar, LocalDateTime entryTime) {
+        this.jar = jar;
+        this.entryTime = entryTime;
+    }
+    
+    @Override
+    public OutputStream openBinary(JPackage pkg, String fileName) throws IOException {
+        String name = pkg.isUnnamed() ? fileName : pkg.name().replace('.', '/') + "/" + fileName;
+        JarEntry entry = new JarEntry(name);
+        entry.setTimeLocal(entryTime);
+        jar.putNextEntry(entry);
+        return new FilterOutputStream(jar) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+            
+            @Override
+            public void close() throws IOException {
+                // Codemodel closes every file it writes; that only ends the entry, not the jar
+                jar.closeEntry();
+            }
+        };
+    }
+    
+    @Override
+    public void close() {
+    }
+}
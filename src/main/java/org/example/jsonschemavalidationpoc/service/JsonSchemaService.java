@@ -2,25 +2,34 @@ package org.example.jsonschemavalidationpoc.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SpecVersion;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.networknt.schema.OutputFormat;
 import com.networknt.schema.ValidationMessage;
 import com.sun.codemodel.JCodeModel;
+import org.example.jsonschemavalidationpoc.dto.CacheStatsResponse;
+import org.example.jsonschemavalidationpoc.dto.SchemaPageResponse;
 import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
 import org.example.jsonschemavalidationpoc.dto.ValidationRequest;
+import org.example.jsonschemavalidationpoc.dto.ValidationMode;
 import org.example.jsonschemavalidationpoc.dto.ValidationResponse;
 import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
 import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
 import org.jsonschema2pojo.*;
 import org.jsonschema2pojo.rules.RuleFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
 import java.io.*;
-import java.nio.file.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
 
@@ -28,51 +37,176 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JsonSchemaService {
     
+    private static final int MAX_PAGE_SIZE = 500;
+    /** Bumped whenever jar layout or generator settings change, so old ETags stop matching. */
+    private static final String POJO_JAR_FORMAT = "jar-v2";
+    /** Fixed entry timestamp so a rebuilt jar, and so its ETag, stays byte-identical. */
+    private static final LocalDateTime JAR_ENTRY_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+    
     private final JsonSchemaRepository repository;
+    private final SchemaContentRepository contentRepository;
+    private final SchemaRegistry schemaRegistry;
     private final ObjectMapper objectMapper;
     private final AvroConverterService avroConverterService;
+    private final SchemaCompiler schemaCompiler;
+    private final SchemaCodec schemaCodec;
+    private final CompiledSchemaCache compiledSchemaCache;
+    private final ArtifactCache artifactCache;
+    private final PojoCompiler pojoCompiler;
+    private final SpecializationTier specializationTier;
+    private final SchemaMetrics schemaMetrics;
+    private final SchemaChangeSync schemaChangeSync;
     
     public JsonSchemaEntity saveSchema(SchemaRequest request) {
         // Validate that the schema is valid JSON
+        JsonNode schemaNode;
         try {
-            objectMapper.readTree(request.getSchemaContent());
+            schemaNode = objectMapper.readTree(request.getSchemaContent());
         } catch (Exception e) {
             throw new IllegalArgumentException("Invalid JSON schema: " + e.getMessage());
         }
+        if (schemaNode == null || schemaNode.isMissingNode()) {
+            throw new IllegalArgumentException("Invalid JSON schema: content is empty");
+        }
+        
+        if (VersionRange.isSelector(request.getVersion())) {
+            throw new IllegalArgumentException("Version '" + request.getVersion() + 
+                "' is reserved for selecting versions and cannot be saved");
+        }
         
         // Check if schema with same type and version already exists
-        if (repository.existsByTypeAndVersion(request.getType(), request.getVersion())) {
+        if (schemaRegistry.exists(request.getType(), request.getVersion())) {
             throw new IllegalArgumentException("Schema with type '" + request.getType() + 
                 "' and version '" + request.getVersion() + "' already exists");
         }
         
+        // Bodies are stored once per content hash. A body left behind by a failed row insert is harmless: 
+        // it is only ever reached through a row that points at it.
+        String contentHash = ContentHash.of(request.getSchemaContent());
+        byte[] binaryContent = schemaCodec.encode(schemaNode);
+        if (!contentRepository.existsById(contentHash)) {
+            try {
+                contentRepository.save(new SchemaContentEntity(contentHash, request.getSchemaContent(), 
+                    schemaCodec.normalize(schemaNode), binaryContent));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent save of the same content inserted it between the check and the insert
+                if (!contentRepository.existsById(contentHash)) {
+                    throw e;
+                }
+            }
+        }
+        
         JsonSchemaEntity entity = new JsonSchemaEntity();
         entity.setType(request.getType());
         entity.setVersion(request.getVersion());
+        entity.setContentHash(contentHash);
+        entity.setContentSize(request.getSchemaContent().getBytes(StandardCharsets.UTF_8).length);
         entity.setSchemaContent(request.getSchemaContent());
+        entity.setBinaryContent(binaryContent);
         
-        return repository.save(entity);
+        // Registered locally only after the row and its change announcement have committed
+        try {
+            return schemaChangeSync.save(() -> repository.save(entity));
+        } catch (DataIntegrityViolationException e) {
+            // Saved by another instance whose announcement has not arrived yet
+            throw new IllegalArgumentException("Schema with type '" + request.getType() + 
+                "' and version '" + request.getVersion() + "' already exists");
+        }
+    }
+    
+    /**
+     * Deletes one schema version. The stored content is kept for other versions and later saves
+     */
+    public void deleteSchema(String type, String version) {
+        if (VersionRange.isSelector(version)) {
+            throw new IllegalArgumentException("Deleting a schema requires an exact version, not '" + version + "'");
+        }
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        schemaChangeSync.delete(schemaEntity, () -> repository.deleteById(schemaEntity.getId()));
     }
     
     public ValidationResponse validateJson(ValidationRequest request) {
-        // Find the schema
-        JsonSchemaEntity schemaEntity = repository.findByTypeAndVersion(
-            request.getType(), request.getVersion())
-            .orElseThrow(() -> new IllegalArgumentException(
-                "Schema not found for type '" + request.getType() + 
-                "' and version '" + request.getVersion() + "'"));
+        return validateJson(request, ValidationMode.FULL);
+    }
+    
+    public ValidationResponse validateJson(ValidationRequest request, ValidationMode mode) {
+        SchemaKey key = resolveKey(request.getType(), request.getVersion());
+        CompiledSchema compiled = getCompiledSchema(key.type(), key.version());
         
         try {
-            // Parse the schema and JSON data
-            JsonNode schemaNode = objectMapper.readTree(schemaEntity.getSchemaContent());
-            JsonNode jsonNode = objectMapper.readTree(request.getJsonData());
+            if (request.getJsonData() != null) {
+                schemaMetrics.recordPayloadSize(key, request.getJsonData().length());
+            }
+            JsonNode jsonNode = schemaMetrics.time(SchemaMetrics.DOCUMENT_PARSE, key, 
+                () -> readTree(request.getJsonData()));
+            return validateNode(key, compiled, jsonNode, mode);
+        } catch (Exception e) {
+            return new ValidationResponse(false, 
+                Collections.singletonList("Validation error: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Validates a raw JSON document, parsing the stream straight into a tree once
+     */
+    public ValidationResponse validateDocument(String type, String version, InputStream document, 
+            ValidationMode mode) {
+        SchemaKey key = resolveKey(type, version);
+        CompiledSchema compiled = getCompiledSchema(key.type(), key.version());
+        
+        try {
+            CountingInputStream counted = new CountingInputStream(document);
+            JsonNode jsonNode = schemaMetrics.time(SchemaMetrics.DOCUMENT_PARSE, key, () -> {
+                try {
+                    return objectMapper.readTree(counted);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            schemaMetrics.recordPayloadSize(key, counted.getCount());
+            if (jsonNode == null || jsonNode.isMissingNode()) {
+                return new ValidationResponse(false, 
+                    Collections.singletonList("Validation error: request body is empty"));
+            }
+            return validateNode(key, compiled, jsonNode, mode);
+        } catch (Exception e) {
+            return new ValidationResponse(false, 
+                Collections.singletonList("Validation error: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Validates an already parsed document against a compiled schema
+     */
+    public ValidationResponse validateNode(SchemaKey key, CompiledSchema compiled, JsonNode jsonNode, 
+            ValidationMode mode) {
+        ValidationResponse response = schemaMetrics.time(SchemaMetrics.VALIDATE, key, 
+            () -> validate(compiled, jsonNode, mode));
+        schemaMetrics.recordOutcome(key, response.isValid());
+        return response;
+    }
+    
+    private ValidationResponse validate(CompiledSchema compiled, JsonNode jsonNode, ValidationMode mode) {
+        try {
+            SpecializedValidator specialized = specializationTier.forUse(compiled);
+            if (specialized != null) {
+                // Valid documents never need messages; invalid ones only when the caller wants them
+                boolean valid = specialized.isValid(jsonNode);
+                if (valid || mode == ValidationMode.BOOLEAN) {
+                    return new ValidationResponse(valid, Collections.emptyList());
+                }
+            }
             
-            // Create validator
-            JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
-            JsonSchema schema = factory.getSchema(schemaNode);
+            if (mode == ValidationMode.BOOLEAN) {
+                // The boolean output format runs fail-fast and never formats messages
+                boolean valid = compiled.schema().validate(jsonNode, OutputFormat.BOOLEAN);
+                return new ValidationResponse(valid, Collections.emptyList());
+            }
             
-            // Validate
-            Set<ValidationMessage> validationMessages = schema.validate(jsonNode);
+            Set<ValidationMessage> validationMessages = mode == ValidationMode.FAIL_FAST
+                ? compiled.schema().validate(jsonNode, 
+                    executionContext -> executionContext.getExecutionConfig().setFailFast(true))
+                : compiled.schema().validate(jsonNode);
             
             if (validationMessages.isEmpty()) {
                 return new ValidationResponse(true, Collections.emptyList());
@@ -88,24 +222,234 @@ public class JsonSchemaService {
         }
     }
     
-    public byte[] generatePojoJar(String type, String version) {
-        // Find the schema
-        JsonSchemaEntity schemaEntity = repository.findByTypeAndVersion(type, version)
+    /**
+     * Lists schemas in id order, starting after the given id. Only summary columns are read.
+     */
+    public SchemaPageResponse listSchemas(String type, long afterId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        List<SchemaSummary> schemas = type == null || type.isBlank()
+            ? repository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit))
+            : repository.findByTypeAndIdGreaterThanOrderByIdAsc(type, afterId, Limit.of(limit));
+        // A short page is the last one
+        Long nextCursor = schemas.size() == limit ? schemas.get(schemas.size() - 1).getId() : null;
+        return new SchemaPageResponse(schemas, nextCursor);
+    }
+    
+    public JsonSchemaEntity getSchema(String type, String version) {
+        return findSchema(type, version);
+    }
+    
+    /**
+     * Resolves "latest" or a version range to the stored version it selects
+     */
+    public SchemaKey resolveKey(String type, String version) {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        return new SchemaKey(schemaEntity.getType(), schemaEntity.getVersion());
+    }
+    
+    /**
+     * Returns the compiled validator for a stored schema, compiling it on first use
+     */
+    public CompiledSchema getCompiledSchema(String type, String version) {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        return compiledSchemaCache.get(schemaEntity.getContentHash(), 
+            contentHash -> compile(new SchemaKey(schemaEntity.getType(), schemaEntity.getVersion()), schemaEntity));
+    }
+    
+    /**
+     * Compiles an already loaded schema into the cache, without looking it up
+     * again. Compiling also builds its validators, so the first request does not pay for it.
+     */
+    public CompiledSchema preloadSchema(JsonSchemaEntity schemaEntity) {
+        return compiledSchemaCache.get(schemaEntity.getContentHash(), 
+            contentHash -> compile(new SchemaKey(schemaEntity.getType(), schemaEntity.getVersion()), schemaEntity));
+    }
+    
+    private CompiledSchema compile(SchemaKey key, JsonSchemaEntity schemaEntity) {
+        // The binary form decodes much faster than the text; rows saved before it existed only have text
+        JsonNode schemaNode = schemaMetrics.time(SchemaMetrics.SCHEMA_PARSE, key, () -> {
+            byte[] binaryContent = schemaEntity.getBinaryContent();
+            return binaryContent != null ? schemaCodec.decode(binaryContent) : readTree(schemaEntity.getSchemaContent());
+        });
+        SchemaCompiler.ResolvedSchema resolved = schemaMetrics.time(SchemaMetrics.COMPILE, key, 
+            () -> schemaCompiler.compile(schemaNode, this::findReferenced));
+        return new CompiledSchema(resolved.schema(), contentWeight(schemaEntity), resolved.references());
+    }
+    
+    /**
+     * Weight in the compiled cache, taken from the stored size so compressed content is not inflated for it
+     */
+    private int contentWeight(JsonSchemaEntity schemaEntity) {
+        return schemaEntity.getContentSize() != null 
+            ? schemaEntity.getContentSize() 
+            : schemaEntity.getSchemaContent().length();
+    }
+    
+    /**
+     * Content of a schema referenced as "schema://{type}/{version}", served from the registry
+     */
+    private Optional<String> findReferenced(SchemaKey reference) {
+        return schemaRegistry.find(reference.type(), reference.version()).map(JsonSchemaEntity::getSchemaContent);
+    }
+    
+    private JsonSchemaEntity findSchema(String type, String version) {
+        // Tagged with the version found, so unknown keys and selectors do not each create a meter
+        return schemaMetrics.timeLookup(() -> schemaRegistry.find(type, version), 
+                found -> new SchemaKey(type, found.getVersion()))
             .orElseThrow(() -> new IllegalArgumentException(
                 "Schema not found for type '" + type + "' and version '" + version + "'"));
+    }
+    
+    private JsonNode readTree(String content) {
+        try {
+            return objectMapper.readTree(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+    
+    public CacheStatsResponse getCacheStats() {
+        CacheStats stats = compiledSchemaCache.stats();
+        return new CacheStatsResponse(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount(),
+            compiledSchemaCache.size(),
+            compiledSchemaCache.weightedSize());
+    }
+    
+    /**
+     * Strong ETag of the sources or compiled jar for this schema. Jars are built
+     * reproducibly, so the same content and root class name always give the same
+     * bytes; compiled jars also depend on the running compiler.
+     */
+    public String pojoJarETag(String type, String version, boolean compiled) {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        String variant = compiled ? "classes:" + PojoCompiler.RELEASE + ":" + Runtime.version() : "sources";
+        return "\"" + ContentHash.of(POJO_JAR_FORMAT + ":" + variant + ":" + type + ":" + schemaEntity.getContentHash()) + "\"";
+    }
+    
+    public byte[] generatePojoJar(String type, String version) {
+        // Find the schema
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        
+        return artifactCache.pojoJar(schemaEntity.getContentHash(), type, 
+            () -> schemaMetrics.time(SchemaMetrics.JAR, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> {
+                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                    writePojoJar(schemaEntity, type, baos);
+                    return baos.toByteArray();
+                }));
+    }
+    
+    /**
+     * The sources jar, from the cache or built in memory, or empty when it is
+     * larger than the cache entry size limit and has to be streamed with writePojoJar.
+     */
+    public Optional<byte[]> bufferPojoJar(String type, String version) {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        
+        return artifactCache.bufferPojoJar(schemaEntity.getContentHash(), type, 
+            jar -> schemaMetrics.time(SchemaMetrics.JAR, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> {
+                    writePojoJar(schemaEntity, type, jar);
+                    return null;
+                }));
+    }
+    
+    /**
+     * Streams the sources jar to out as it is generated, or from the cache,
+     * without holding a copy of it per request.
+     */
+    public void writePojoJar(String type, String version, OutputStream out) throws IOException {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        
+        artifactCache.writePojoJar(schemaEntity.getContentHash(), type, out, 
+            jar -> schemaMetrics.time(SchemaMetrics.JAR, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> {
+                    writePojoJar(schemaEntity, type, jar);
+                    return null;
+                }));
+    }
+    
+    /**
+     * Jar of the generated POJOs compiled to bytecode. The sources jar from
+     * generatePojoJar serves as its sources jar.
+     */
+    public byte[] generatePojoClassesJar(String type, String version) {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        // Resolved before the cache lookup: generating it inside the cache's loader would nest cache loads
+        byte[] sourcesJar = generatePojoJar(type, version);
         
+        return artifactCache.pojoClassesJar(schemaEntity.getContentHash(), type, 
+            () -> schemaMetrics.time(SchemaMetrics.JAR_COMPILE, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> {
+                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                    writePojoClassesJar(sourcesJar, baos);
+                    return baos.toByteArray();
+                }));
+    }
+    
+    /**
+     * The compiled jar, from the cache or built in memory, or empty when it is
+     * larger than the cache entry size limit and has to be streamed with writePojoClassesJar.
+     */
+    public Optional<byte[]> bufferPojoClassesJar(String type, String version) {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        
+        return artifactCache.bufferPojoClassesJar(schemaEntity.getContentHash(), type, 
+            jar -> schemaMetrics.time(SchemaMetrics.JAR_COMPILE, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> {
+                    writePojoClassesJar(generatePojoJar(type, version), jar);
+                    return null;
+                }));
+    }
+    
+    /**
+     * Writes the compiled jar to out, from the cache or else as it is packaged.
+     * Compilation itself holds every source and class file in memory first, so
+     * only the packaging into the jar is streamed.
+     */
+    public void writePojoClassesJar(String type, String version, OutputStream out) throws IOException {
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
+        
+        artifactCache.writePojoClassesJar(schemaEntity.getContentHash(), type, out, 
+            jar -> schemaMetrics.time(SchemaMetrics.JAR_COMPILE, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> {
+                    writePojoClassesJar(generatePojoJar(type, version), jar);
+                    return null;
+                }));
+    }
+    
+    private void writePojoClassesJar(byte[] sourcesJar, OutputStream out) {
         try {
-            // Create temporary directories
-            Path tempDir = Files.createTempDirectory("pojo-gen-");
-            Path sourceDir = tempDir.resolve("src");
-            Path outputDir = tempDir.resolve("target");
-            Files.createDirectories(sourceDir);
-            Files.createDirectories(outputDir);
-            
-            // Write schema to temporary file
-            Path schemaFile = tempDir.resolve("schema.json");
-            Files.write(schemaFile, schemaEntity.getSchemaContent().getBytes());
+            Map<String, String> sources = new LinkedHashMap<>();
+            try (JarInputStream jis = new JarInputStream(new ByteArrayInputStream(sourcesJar))) {
+                for (JarEntry entry = jis.getNextJarEntry(); entry != null; entry = jis.getNextJarEntry()) {
+                    sources.put(entry.getName(), new String(jis.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
             
+            try (JarOutputStream jos = new JarOutputStream(out)) {
+                for (Map.Entry<String, byte[]> compiled : pojoCompiler.compile(sources).entrySet()) {
+                    JarEntry entry = new JarEntry(compiled.getKey());
+                    entry.setTimeLocal(JAR_ENTRY_TIME);
+                    jos.putNextEntry(entry);
+                    jos.write(compiled.getValue());
+                    jos.closeEntry();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error compiling POJO JAR: " + e.getMessage(), e);
+        }
+    }
+    
+    private void writePojoJar(JsonSchemaEntity schemaEntity, String type, OutputStream out) {
+        try {
             // Configure jsonschema2pojo
             JCodeModel codeModel = new JCodeModel();
             
@@ -141,60 +485,21 @@ public class JsonSchemaService {
                 new SchemaGenerator()
             );
             
-            // Generate POJOs
+            // Generate POJOs straight from the stored content
             mapper.generate(codeModel, 
                 capitalizeFirstLetter(type), 
                 "org.example.generated", 
-                schemaFile.toUri().toURL());
+                schemaEntity.getSchemaContent());
             
-            codeModel.build(sourceDir.toFile());
-            
-            // Create JAR file
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            try (JarOutputStream jos = new JarOutputStream(baos)) {
-                addFilesToJar(jos, sourceDir, sourceDir);
+            // Write the sources into the JAR as codemodel emits them
+            try (JarOutputStream jos = new JarOutputStream(out)) {
+                codeModel.build(new JarCodeWriter(jos, JAR_ENTRY_TIME));
             }
-            
-            // Cleanup
-            deleteDirectory(tempDir);
-            
-            return baos.toByteArray();
-            
         } catch (Exception e) {
             throw new RuntimeException("Error generating POJO JAR: " + e.getMessage(), e);
         }
     }
     
-    private void addFilesToJar(JarOutputStream jos, Path baseDir, Path sourceDir) throws IOException {
-        Files.walk(sourceDir)
-            .filter(Files::isRegularFile)
-            .forEach(file -> {
-                try {
-                    Path relativePath = baseDir.relativize(file);
-                    JarEntry entry = new JarEntry(relativePath.toString().replace("\\", "/"));
-                    jos.putNextEntry(entry);
-                    Files.copy(file, jos);
-                    jos.closeEntry();
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            });
-    }
-    
-    private void deleteDirectory(Path directory) throws IOException {
-        if (Files.exists(directory)) {
-            Files.walk(directory)
-                .sorted(Comparator.reverseOrder())
-                .forEach(path -> {
-                    try {
-                        Files.delete(path);
-                    } catch (IOException e) {
-                        // Ignore
-                    }
-                });
-        }
-    }
-    
     private String capitalizeFirstLetter(String str) {
         if (str == null || str.isEmpty()) {
             return str;
@@ -204,14 +509,45 @@ public class JsonSchemaService {
     
     public String getAvroSchema(String type, String version) {
         // Find the schema
-        JsonSchemaEntity schemaEntity = repository.findByTypeAndVersion(type, version)
-            .orElseThrow(() -> new IllegalArgumentException(
-                "Schema not found for type '" + type + "' and version '" + version + "'"));
+        JsonSchemaEntity schemaEntity = findSchema(type, version);
         
         // Convert to Avro
-        return avroConverterService.convertJsonSchemaToAvro(
-            schemaEntity.getSchemaContent(), 
-            type
-        );
+        return artifactCache.avroSchema(schemaEntity.getContentHash(), type, 
+            () -> schemaMetrics.time(SchemaMetrics.AVRO, new SchemaKey(type, schemaEntity.getVersion()), 
+                () -> avroConverterService.convertJsonSchemaToAvro(
+                    schemaEntity.getSchemaContent(), 
+                    type
+                )));
+    }
+    
+    private static final class CountingInputStream extends FilterInputStream {
+        
+        private long count;
+        
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+        
+        long getCount() {
+            return count;
+        }
     }
 }
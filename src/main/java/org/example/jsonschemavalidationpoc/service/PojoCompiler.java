@@ -0,0 +1,186 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.stereotype.Component;
+
+import javax.tools.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles generated POJO sources to bytecode with javax.tools, entirely in
+ * memory. Sources are read from strings and class files are collected as byte
+ * arrays, so nothing is written to disk.
+ */
+@Component
+public class PojoCompiler {
+
+    /** Bytecode level of the compiled classes, so consumers on older JDKs can still load them. */
+    static final String RELEASE = "17";
+
+    /** Library packages generated sources import, also readable when the app runs from a nested jar. */
+    private static final List<Class<?>> LIBRARY_ANCHORS = List.of(JsonProperty.class);
+
+    private volatile Map<String, List<JavaFileObject>> libraryClasses;
+
+    /**
+     * Compiles sources keyed by jar path, such as org/example/generated/User.java,
+     * and returns class files keyed by jar path in name order.
+     */
+    public SortedMap<String, byte[]> compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No Java compiler available; compiled POJO jars need a JDK");
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> units = sources.entrySet().stream()
+            .map(source -> (JavaFileObject) new SourceFile(source.getKey(), source.getValue()))
+            .toList();
+        Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+
+        try (MemoryFileManager fileManager = new MemoryFileManager(
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8), classes)) {
+            boolean compiled = compiler.getTask(null, fileManager, diagnostics,
+                List.of("--release", RELEASE, "-proc:none", "-nowarn"), null, units).call();
+            if (!compiled) {
+                throw new IllegalStateException("Generated sources did not compile: " + diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.joining("; ")));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        SortedMap<String, byte[]> result = new TreeMap<>();
+        classes.forEach((className, bytes) -> result.put(className.replace('.', '/') + ".class", bytes.toByteArray()));
+        return result;
+    }
+
+    private Map<String, List<JavaFileObject>> libraryClasses() {
+        Map<String, List<JavaFileObject>> classes = libraryClasses;
+        if (classes == null) {
+            classes = new HashMap<>();
+            for (Class<?> anchor : LIBRARY_ANCHORS) {
+                classes.put(anchor.getPackageName(), readPackage(anchor));
+            }
+            libraryClasses = classes;
+        }
+        return classes;
+    }
+
+    /**
+     * Reads every class in the anchor's package from the jar it was loaded from.
+     * Classes loaded from a directory are already on the compiler's class path.
+     */
+    private static List<JavaFileObject> readPackage(Class<?> anchor) {
+        URL resource = anchor.getResource(anchor.getSimpleName() + ".class");
+        String packagePath = anchor.getPackageName().replace('.', '/') + "/";
+        List<JavaFileObject> classes = new ArrayList<>();
+        try {
+            URLConnection connection = resource == null ? null : resource.openConnection();
+            if (!(connection instanceof JarURLConnection jarConnection)) {
+                return classes;
+            }
+            jarConnection.setUseCaches(false);
+            try (JarFile jar = jarConnection.getJarFile()) {
+                for (JarEntry entry : Collections.list(jar.entries())) {
+                    String name = entry.getName();
+                    if (name.startsWith(packagePath) && name.endsWith(".class")
+                            && name.indexOf('/', packagePath.length()) < 0) {
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            classes.add(new LibraryClass(name, in.readAllBytes()));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + packagePath + " for compiling POJOs", e);
+        }
+        return classes;
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String content;
+
+        SourceFile(String path, String content) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    private static final class LibraryClass extends SimpleJavaFileObject {
+
+        private final String binaryName;
+        private final byte[] bytes;
+
+        LibraryClass(String path, byte[] bytes) {
+            super(URI.create("library:///" + path), Kind.CLASS);
+            this.binaryName = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    private final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final Map<String, ByteArrayOutputStream> classes;
+
+        MemoryFileManager(StandardJavaFileManager fileManager, Map<String, ByteArrayOutputStream> classes) {
+            super(fileManager);
+            this.classes = classes;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                FileObject sibling) {
+            return new SimpleJavaFileObject(URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return classes.computeIfAbsent(className, name -> new ByteArrayOutputStream());
+                }
+            };
+        }
+
+        @Override
+        public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds,
+                boolean recurse) throws IOException {
+            Iterable<JavaFileObject> listed = super.list(location, packageName, kinds, recurse);
+            if (location != StandardLocation.CLASS_PATH || !kinds.contains(JavaFileObject.Kind.CLASS)
+                    || listed.iterator().hasNext()) {
+                return listed;
+            }
+            List<JavaFileObject> library = libraryClasses().get(packageName);
+            return library != null ? library : listed;
+        }
+
+        @Override
+        public String inferBinaryName(Location location, JavaFileObject file) {
+            return file instanceof LibraryClass library ? library.binaryName : super.inferBinaryName(location, file);
+        }
+    }
+}
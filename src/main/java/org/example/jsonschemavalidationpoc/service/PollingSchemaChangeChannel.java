@@ -0,0 +1,130 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.entity.SchemaChangeEntity;
+import org.example.jsonschemavalidationpoc.repository.SchemaChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Shares changes through the schema_changes table of the shared database.
+ * Publishing inserts a row, joining the transaction that writes the schema;
+ * every instance polls for rows after the last id it has seen. Ids are assigned at insert but become visible at commit, so a
+ * lower id can show up after a higher one: the cursor waits at such a gap
+ * until the row appears or the gap is older than the gap timeout, in which
+ * case its transaction is taken to have rolled back.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "schema.changes.channel", havingValue = "database", matchIfMissing = true)
+public class PollingSchemaChangeChannel implements SchemaChangeChannel {
+    
+    private final SchemaChangeRepository repository;
+    private final SchemaChangeProperties properties;
+    private final Clock clock;
+    private final List<Consumer<SchemaChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Every id up to the cursor has been delivered or skipped
+     */
+    private long cursor;
+    /**
+     * Ids above the cursor that were delivered while a lower id was missing
+     */
+    private final Set<Long> deliveredAhead = new TreeSet<>();
+    private Instant gapSince;
+    
+    @Autowired
+    public PollingSchemaChangeChannel(SchemaChangeRepository repository, SchemaChangeProperties properties) {
+        this(repository, properties, Clock.systemUTC());
+    }
+    
+    PollingSchemaChangeChannel(SchemaChangeRepository repository, SchemaChangeProperties properties, Clock clock) {
+        this.repository = repository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+    
+    /**
+     * Starts after the changes already stored; the registry loads their result from the schema table itself
+     */
+    @PostConstruct
+    synchronized void start() {
+        cursor = repository.findMaxId();
+    }
+    
+    @Override
+    public void publish(SchemaChangeEvent event) {
+        repository.save(new SchemaChangeEntity(null, event.kind(), event.type(), event.version(), 
+            event.contentHash(), event.origin(), clock.instant()));
+    }
+    
+    @Override
+    public void subscribe(Consumer<SchemaChangeEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    @Scheduled(fixedDelayString = "${schema.changes.poll-interval:1s}")
+    public synchronized void poll() {
+        List<SchemaChangeEntity> changes = repository.findByIdGreaterThanOrderByIdAsc(cursor, 
+            Limit.of(properties.getPollBatchSize()));
+        for (SchemaChangeEntity change : changes) {
+            if (!deliveredAhead.contains(change.getId())) {
+                deliver(change);
+                deliveredAhead.add(change.getId());
+            }
+        }
+        advanceCursor();
+    }
+    
+    @Scheduled(fixedDelayString = "${schema.changes.retention:1h}")
+    public void purge() {
+        int purged = repository.deleteCreatedBefore(clock.instant().minus(properties.getRetention()));
+        log.debug("Purged {} schema changes", purged);
+    }
+    
+    private void deliver(SchemaChangeEntity change) {
+        SchemaChangeEvent event = new SchemaChangeEvent(change.getKind(), change.getType(), change.getVersion(), 
+            change.getContentHash(), change.getOrigin());
+        for (Consumer<SchemaChangeEvent> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (Exception e) {
+                log.warn("Schema change subscriber failed on change {}", change.getId(), e);
+            }
+        }
+    }
+    
+    private void advanceCursor() {
+        while (deliveredAhead.remove(cursor + 1)) {
+            cursor++;
+        }
+        if (deliveredAhead.isEmpty()) {
+            gapSince = null;
+            return;
+        }
+        Instant now = clock.instant();
+        if (gapSince == null) {
+            gapSince = now;
+        } else if (now.isAfter(gapSince.plus(properties.getGapTimeout()))) {
+            log.debug("Skipping schema change ids {} to {}", cursor + 1, Collections.min(deliveredAhead) - 1);
+            cursor = Collections.min(deliveredAhead) - 1;
+            gapSince = null;
+            advanceCursor();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries schema changes between instances sharing one database. Delivery is
+ * at least once and in publish order per publisher; subscribers must tolerate
+ * repeated events and receive the publisher's own events too.
+ */
+public interface SchemaChangeChannel {
+    
+    void publish(SchemaChangeEvent event);
+    
+    void subscribe(Consumer<SchemaChangeEvent> subscriber);
+}
@@ -0,0 +1,9 @@
+package org.example.jsonschemavalidationpoc.service;
+
+/**
+ * A schema saved or deleted on one instance, announced to the others
+ */
+public record SchemaChangeEvent(Kind kind, String type, String version, String contentHash, String origin) {
+    
+    public enum Kind { SAVED, DELETED }
+}
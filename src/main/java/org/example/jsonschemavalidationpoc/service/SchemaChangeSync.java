@@ -0,0 +1,131 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Applies schema saves and deletes to this instance's registry and caches, and
+ * announces them on the {@link SchemaChangeChannel} so the other instances apply
+ * them the same way. A change is announced in the transaction that writes it,
+ * so on the database channel the change row commits together with the schema
+ * row or not at all. Changes are applied one schema at a time; nothing is
+ * reloaded wholesale.
+ */
+@Slf4j
+@Component
+public class SchemaChangeSync {
+    
+    private final SchemaRegistry schemaRegistry;
+    private final CompiledSchemaCache compiledSchemaCache;
+    private final ArtifactCache artifactCache;
+    private final Optional<SchemaChangeChannel> channel;
+    private final Optional<TransactionTemplate> transactions;
+    private final String nodeId;
+    
+    public SchemaChangeSync(SchemaRegistry schemaRegistry, CompiledSchemaCache compiledSchemaCache, 
+            ArtifactCache artifactCache, Optional<SchemaChangeChannel> channel, 
+            Optional<TransactionTemplate> transactions, SchemaChangeProperties properties) {
+        this.schemaRegistry = schemaRegistry;
+        this.compiledSchemaCache = compiledSchemaCache;
+        this.artifactCache = artifactCache;
+        this.channel = channel;
+        this.transactions = transactions;
+        this.nodeId = properties.getNodeId();
+        channel.ifPresent(changes -> changes.subscribe(this::apply));
+    }
+    
+    /**
+     * Runs the write and announces the saved schema in the same transaction, then
+     * adds it to the registry. A failed announcement rolls the write back.
+     */
+    public JsonSchemaEntity save(Supplier<JsonSchemaEntity> write) {
+        JsonSchemaEntity schema = inTransaction(() -> {
+            JsonSchemaEntity saved = write.get();
+            publish(SchemaChangeEvent.Kind.SAVED, saved);
+            return saved;
+        });
+        schemaRegistry.put(schema);
+        invalidateReferencing(schema.getType(), schema.getVersion());
+        return schema;
+    }
+    
+    /**
+     * Saves several schemas the same way and adds them to the registry as one snapshot
+     */
+    public List<JsonSchemaEntity> saveAll(Supplier<List<JsonSchemaEntity>> write) {
+        List<JsonSchemaEntity> schemas = inTransaction(() -> {
+            List<JsonSchemaEntity> saved = write.get();
+            saved.forEach(schema -> publish(SchemaChangeEvent.Kind.SAVED, schema));
+            return saved;
+        });
+        schemaRegistry.putAll(schemas);
+        schemas.forEach(schema -> invalidateReferencing(schema.getType(), schema.getVersion()));
+        return schemas;
+    }
+    
+    public void delete(JsonSchemaEntity schema, Runnable write) {
+        inTransaction(() -> {
+            write.run();
+            publish(SchemaChangeEvent.Kind.DELETED, schema);
+            return null;
+        });
+        schemaRegistry.remove(schema.getType(), schema.getVersion()).ifPresent(this::evictUnreferenced);
+        invalidateReferencing(schema.getType(), schema.getVersion());
+    }
+    
+    /**
+     * Applies a change made on another instance
+     */
+    void apply(SchemaChangeEvent event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        try {
+            Optional<JsonSchemaEntity> replaced = switch (event.kind()) {
+                case SAVED -> schemaRegistry.refresh(event.type(), event.version(), event.contentHash());
+                case DELETED -> schemaRegistry.remove(event.type(), event.version());
+            };
+            replaced.ifPresent(this::evictUnreferenced);
+            invalidateReferencing(event.type(), event.version());
+        } catch (Exception e) {
+            // The next read of the schema still goes to the database when it is missing here
+            log.warn("Could not apply {} of schema '{}' version '{}' from {}", 
+                event.kind(), event.type(), event.version(), event.origin(), e);
+        }
+    }
+    
+    /**
+     * Cached validators and artifacts are keyed by content hash and never go stale;
+     * they are dropped once no version refers to their content, only to free memory
+     */
+    private void evictUnreferenced(JsonSchemaEntity schema) {
+        if (!schemaRegistry.references(schema.getContentHash())) {
+            compiledSchemaCache.invalidate(schema.getContentHash());
+            artifactCache.invalidate(schema.getContentHash());
+        }
+    }
+    
+    /**
+     * Validators that resolved "schema://" references to this type are rebuilt on next use
+     */
+    private void invalidateReferencing(String type, String version) {
+        compiledSchemaCache.invalidateReferencing(new SchemaKey(type, version));
+    }
+    
+    private <T> T inTransaction(Supplier<T> work) {
+        // Absent only without a database, where there is no shared channel to publish on either
+        return transactions.map(template -> template.execute(status -> work.get())).orElseGet(work);
+    }
+    
+    private void publish(SchemaChangeEvent.Kind kind, JsonSchemaEntity schema) {
+        channel.ifPresent(changes -> changes.publish(new SchemaChangeEvent(kind, schema.getType(), 
+            schema.getVersion(), schema.getContentHash(), nodeId)));
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Converts schema trees to and from the forms persisted next to the original
+ * text: compact Smile binary, which is much cheaper to read back than text,
+ * and a normalized compact JSON string.
+ */
+@Component
+public class SchemaCodec {
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    public byte[] encode(JsonNode schemaNode) {
+        try {
+            return smileMapper.writeValueAsBytes(schemaNode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode schema: " + e.getMessage(), e);
+        }
+    }
+
+    public JsonNode decode(byte[] binaryContent) {
+        try {
+            return smileMapper.readTree(binaryContent);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode schema: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The schema as compact JSON, without the whitespace and formatting of the submitted text
+     */
+    public String normalize(JsonNode schemaNode) {
+        try {
+            return jsonMapper.writeValueAsString(schemaNode);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not normalize schema: " + e.getMessage(), e);
+        }
+    }
+}
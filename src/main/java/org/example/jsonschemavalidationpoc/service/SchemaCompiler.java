@@ -0,0 +1,48 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Component
+public class SchemaCompiler {
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+
+    /**
+     * Builds a validator for the given draft-07 schema document
+     */
+    public JsonSchema compile(JsonNode schemaNode) {
+        return factory.getSchema(schemaNode);
+    }
+
+    /**
+     * Builds a validator whose "schema://{type}/{version}" references are looked
+     * up with the given function, and resolves the whole reference graph up
+     * front. Each root gets its own factory: its schema cache makes cyclic
+     * references point back at the already loaded schema, and is dropped with
+     * the root instead of keeping stale referenced schemas for the whole application.
+     */
+    public ResolvedSchema compile(JsonNode schemaNode, Function<SchemaKey, Optional<String>> lookup) {
+        Set<SchemaKey> references = ConcurrentHashMap.newKeySet();
+        JsonSchemaFactory rootFactory = JsonSchemaFactory.builder(factory)
+            .schemaLoaders(loaders -> loaders.add(new StoredSchemaLoader(lookup, references)))
+            .build();
+        JsonSchema schema = rootFactory.getSchema(schemaNode);
+        schema.initializeValidators();
+        return new ResolvedSchema(schema, references);
+    }
+
+    /**
+     * A validator and the stored schemas it references, directly or transitively
+     */
+    public record ResolvedSchema(JsonSchema schema, Set<SchemaKey> references) {
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jsonschemavalidationpoc.config.SchemaCompressionProperties;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentCompression;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.JpaSchemaContentRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Compresses schema bodies stored as plain text before compression was
+ * enabled. Rows are read and rewritten a batch per transaction, so the
+ * migration can run on a live database and be stopped and resumed at any time.
+ * Until a row is migrated it is simply read as plain text. The schema log
+ * compresses as it writes and has nothing to migrate.
+ */
+@Slf4j
+@Component
+@Profile("!log-store")
+@RequiredArgsConstructor
+public class SchemaContentMigration implements ApplicationRunner {
+    
+    private final JpaSchemaContentRepository contentRepository;
+    private final SchemaContentCompression compression;
+    private final TransactionTemplate transactionTemplate;
+    private final SchemaCompressionProperties properties;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled() && properties.isMigrateOnStartup()) {
+            log.info("Compressed {} stored schema bodies", compressStoredContent());
+        }
+    }
+    
+    /**
+     * Compresses every plain body at or above the minimum size and returns how many were compressed
+     */
+    public int compressStoredContent() {
+        int compressed = 0;
+        String afterHash = "";
+        while (true) {
+            List<String> hashes = contentRepository.findUncompressedHashes(afterHash, properties.getMinSize(), 
+                Limit.of(properties.getMigrationBatchSize()));
+            if (hashes.isEmpty()) {
+                return compressed;
+            }
+            compressed += transactionTemplate.execute(status -> {
+                int count = 0;
+                // Managed entities: the changes are written when the transaction commits
+                for (SchemaContentEntity content : contentRepository.findAllById(hashes)) {
+                    if (compression.compress(content)) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+            afterHash = hashes.get(hashes.size() - 1);
+        }
+    }
+}
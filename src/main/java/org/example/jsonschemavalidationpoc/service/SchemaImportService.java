@@ -0,0 +1,170 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.config.SchemaImportProperties;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResponse;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResult;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResult.Status;
+import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaBatchWriter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+public class SchemaImportService {
+    
+    private final JsonSchemaRepository repository;
+    private final SchemaBatchWriter batchWriter;
+    private final SchemaChangeSync schemaChangeSync;
+    private final SchemaCodec schemaCodec;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool batchValidationPool;
+    private final SchemaImportProperties properties;
+    
+    /**
+     * Imports many schemas at once. Items are parsed in parallel, duplicates are
+     * found with one query, and all new rows are inserted in a single batched
+     * write. Every item gets a result, in input order.
+     */
+    public SchemaImportResponse importSchemas(List<SchemaRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Import must contain at least one schema");
+        }
+        if (requests.size() > properties.getMaxSize()) {
+            throw new IllegalArgumentException("Import of " + requests.size() + 
+                " schemas exceeds the maximum of " + properties.getMaxSize());
+        }
+        
+        List<PreparedSchema> prepared = batchValidationPool.submit(() -> IntStream.range(0, requests.size())
+                .parallel()
+                .mapToObj(index -> prepare(index, requests.get(index)))
+                .toList())
+            .join();
+        
+        SchemaImportResult[] results = new SchemaImportResult[prepared.size()];
+        Map<SchemaKey, PreparedSchema> accepted = new LinkedHashMap<>();
+        Set<SchemaKey> existing = findExisting(prepared);
+        for (PreparedSchema schema : prepared) {
+            if (schema.error() != null) {
+                results[schema.index()] = result(schema, Status.INVALID, null, schema.error());
+            } else if (existing.contains(schema.key()) || accepted.putIfAbsent(schema.key(), schema) != null) {
+                results[schema.index()] = result(schema, Status.DUPLICATE, null, "Schema with type '" + 
+                    schema.key().type() + "' and version '" + schema.key().version() + "' already exists");
+            }
+        }
+        
+        // Inserted and announced in one transaction, then published to the registry in one snapshot
+        List<JsonSchemaEntity> saved = accepted.isEmpty() 
+            ? List.of() 
+            : schemaChangeSync.saveAll(() -> insert(accepted.values()));
+        
+        int index = 0;
+        for (PreparedSchema schema : accepted.values()) {
+            results[schema.index()] = result(schema, Status.CREATED, saved.get(index++).getId(), null);
+        }
+        return new SchemaImportResponse(results.length, saved.size(), List.of(results));
+    }
+    
+    private PreparedSchema prepare(int index, SchemaRequest request) {
+        SchemaKey key = new SchemaKey(request.getType(), request.getVersion());
+        if (isBlank(request.getType()) || isBlank(request.getVersion())) {
+            return PreparedSchema.invalid(index, key, "Type and version are required");
+        }
+        if (VersionRange.isSelector(request.getVersion())) {
+            return PreparedSchema.invalid(index, key, 
+                "Version '" + request.getVersion() + "' is reserved for selecting versions and cannot be saved");
+        }
+        if (request.getSchemaContent() == null) {
+            return PreparedSchema.invalid(index, key, "Invalid JSON schema: content is empty");
+        }
+        
+        JsonNode schemaNode;
+        try {
+            schemaNode = objectMapper.readTree(request.getSchemaContent());
+        } catch (Exception e) {
+            return PreparedSchema.invalid(index, key, "Invalid JSON schema: " + e.getMessage());
+        }
+        if (schemaNode == null || schemaNode.isMissingNode()) {
+            return PreparedSchema.invalid(index, key, "Invalid JSON schema: content is empty");
+        }
+        
+        String content = request.getSchemaContent();
+        SchemaContentEntity contentEntity = new SchemaContentEntity(ContentHash.of(content), content, 
+            schemaCodec.normalize(schemaNode), schemaCodec.encode(schemaNode));
+        return new PreparedSchema(index, key, content, contentEntity, null);
+    }
+    
+    private Set<SchemaKey> findExisting(List<PreparedSchema> prepared) {
+        Set<String> types = new HashSet<>();
+        Set<String> versions = new HashSet<>();
+        prepared.stream().filter(schema -> schema.error() == null).forEach(schema -> {
+            types.add(schema.key().type());
+            versions.add(schema.key().version());
+        });
+        if (types.isEmpty()) {
+            return Set.of();
+        }
+        
+        Set<SchemaKey> existing = new HashSet<>();
+        for (SchemaSummary summary : repository.findByTypeInAndVersionIn(types, versions)) {
+            existing.add(new SchemaKey(summary.getType(), summary.getVersion()));
+        }
+        return existing;
+    }
+    
+    private List<JsonSchemaEntity> insert(Collection<PreparedSchema> schemas) {
+        List<SchemaContentEntity> contents = new ArrayList<>();
+        List<JsonSchemaEntity> rows = new ArrayList<>();
+        for (PreparedSchema schema : schemas) {
+            contents.add(schema.content());
+            JsonSchemaEntity entity = new JsonSchemaEntity();
+            entity.setType(schema.key().type());
+            entity.setVersion(schema.key().version());
+            entity.setContentHash(schema.content().getHash());
+            // Storing the content may replace its text with the compressed form
+            entity.setContentSize(schema.text().getBytes(StandardCharsets.UTF_8).length);
+            entity.setSchemaContent(schema.text());
+            entity.setBinaryContent(schema.content().getBinaryContent());
+            rows.add(entity);
+        }
+        try {
+            return batchWriter.insertAll(contents, rows);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(
+                "Import conflicts with a schema saved concurrently; nothing was imported");
+        }
+    }
+    
+    private SchemaImportResult result(PreparedSchema schema, Status status, Long id, String error) {
+        return new SchemaImportResult(schema.index(), schema.key().type(), schema.key().version(), status, id, error);
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+    
+    private record PreparedSchema(int index, SchemaKey key, String text, SchemaContentEntity content, String error) {
+        
+        static PreparedSchema invalid(int index, SchemaKey key, String error) {
+            return new PreparedSchema(index, key, null, null, error);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.jsonschemavalidationpoc.service;
+
+/**
+ * Identifies a stored schema by its type and version.
+ */
+public record SchemaKey(String type, String version) {
+}
@@ -0,0 +1,115 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-phase timers, payload sizes and validation outcomes, tagged by schema type and version.
+ * Only keys of stored schemas are tagged; unknown keys share the {@link #UNRESOLVED} tags so
+ * requests for arbitrary types cannot create meters.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaMetrics {
+    
+    public static final String LOOKUP = "lookup";
+    public static final String SCHEMA_PARSE = "schema-parse";
+    public static final String DOCUMENT_PARSE = "document-parse";
+    public static final String COMPILE = "compile";
+    public static final String VALIDATE = "validate";
+    public static final String AVRO = "avro";
+    public static final String JAR = "jar";
+    public static final String JAR_COMPILE = "jar-compile";
+    
+    /** Tags for lookups that found no schema, and for keys beyond {@link #MAX_TAGGED_SCHEMAS} */
+    static final SchemaKey UNRESOLVED = new SchemaKey("unknown", "unknown");
+    
+    /** Upper bound on distinct type/version tag pairs, as a backstop against callers passing unchecked keys */
+    static final int MAX_TAGGED_SCHEMAS = 1000;
+    
+    private final MeterRegistry registry;
+    
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<SchemaKey, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+    private final Set<SchemaKey> taggedSchemas = ConcurrentHashMap.newKeySet();
+    
+    private record MeterKey(String name, SchemaKey schema) {
+    }
+    
+    /**
+     * Runs the work and records its duration under the given phase
+     */
+    public <T> T time(String phase, SchemaKey schema, Supplier<T> work) {
+        return timer(phase, schema).record(work);
+    }
+    
+    /**
+     * Runs a schema lookup and records its duration under the key of the schema it found,
+     * or under {@link #UNRESOLVED} when it found none
+     */
+    public <T> Optional<T> timeLookup(Supplier<Optional<T>> lookup, Function<T, SchemaKey> resolvedKey) {
+        Timer.Sample sample = Timer.start(registry);
+        Optional<T> found = Optional.empty();
+        try {
+            found = lookup.get();
+            return found;
+        } finally {
+            sample.stop(timer(LOOKUP, found.map(resolvedKey).orElse(UNRESOLVED)));
+        }
+    }
+    
+    public void recordPayloadSize(SchemaKey schema, long bytes) {
+        payloadSizes.computeIfAbsent(tagged(schema), key -> DistributionSummary.builder("schema.payload.size")
+                .description("Size of documents submitted for validation")
+                .baseUnit("bytes")
+                .tag("type", key.type())
+                .tag("version", key.version())
+                .publishPercentileHistogram()
+                .register(registry))
+            .record(bytes);
+    }
+    
+    public void recordOutcome(SchemaKey schema, boolean valid) {
+        String outcome = valid ? "valid" : "invalid";
+        counters.computeIfAbsent(new MeterKey(outcome, tagged(schema)), key -> Counter.builder("schema.validations")
+                .description("Validated documents by outcome")
+                .tag("outcome", outcome)
+                .tag("type", key.schema().type())
+                .tag("version", key.schema().version())
+                .register(registry))
+            .increment();
+    }
+    
+    private Timer timer(String phase, SchemaKey schema) {
+        return timers.computeIfAbsent(new MeterKey(phase, tagged(schema)), key -> Timer.builder("schema.phase")
+                .description("Time spent in each phase of schema handling")
+                .tag("phase", phase)
+                .tag("type", key.schema().type())
+                .tag("version", key.schema().version())
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+    
+    private SchemaKey tagged(SchemaKey schema) {
+        if (taggedSchemas.contains(schema)) {
+            return schema;
+        }
+        if (taggedSchemas.size() >= MAX_TAGGED_SCHEMAS) {
+            return UNRESOLVED;
+        }
+        taggedSchemas.add(schema);
+        return schema;
+    }
+}
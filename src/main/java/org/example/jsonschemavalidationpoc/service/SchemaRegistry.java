@@ -0,0 +1,265 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory view of the stored schemas. Reads go to an immutable snapshot
+ * without locks or database access; writers publish a new snapshot with a
+ * compare-and-set, so readers always see a complete map. Schemas with the
+ * same content hash share one content string. Each snapshot also holds the
+ * sorted versions of every type, for resolving "latest" and semver ranges.
+ * The database is read once to build the first snapshot; after that, schemas
+ * saved elsewhere arrive through the {@link SchemaChangeSync} channel only.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaRegistry {
+    
+    private final JsonSchemaRepository repository;
+    private final SchemaContentRepository contentRepository;
+    
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    
+    /**
+     * Finds a schema by exact version, or by "latest" or a semver range such as "^1.2"
+     */
+    public Optional<JsonSchemaEntity> find(String type, String version) {
+        SchemaKey key = new SchemaKey(type, version);
+        Snapshot current = current();
+        JsonSchemaEntity schema = current.schemas().get(key);
+        if (schema != null) {
+            return Optional.of(schema);
+        }
+        if (VersionRange.isSelector(version)) {
+            SchemaVersions versions = current.versions().get(type);
+            return Optional.ofNullable(versions)
+                .flatMap(index -> index.resolve(VersionRange.parse(version)))
+                .map(resolved -> current.schemas().get(new SchemaKey(type, resolved)));
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Whether the snapshot has this version. A version saved by another instance
+     * and not yet announced is missed here, and then rejected by the unique
+     * constraint when saved again.
+     */
+    public boolean exists(String type, String version) {
+        return current().schemas().containsKey(new SchemaKey(type, version));
+    }
+    
+    public Collection<JsonSchemaEntity> findAll() {
+        return current().schemas().values();
+    }
+    
+    /**
+     * Publishes a schema that has been committed to the database
+     */
+    public void put(JsonSchemaEntity schema) {
+        update(schemas -> 
+            schemas.put(new SchemaKey(schema.getType(), schema.getVersion()), shareContent(schemas, schema)));
+    }
+    
+    /**
+     * Publishes several committed schemas as one new snapshot
+     */
+    public void putAll(Collection<JsonSchemaEntity> schemas) {
+        update(current -> {
+            Map<String, JsonSchemaEntity> byHash = new HashMap<>();
+            current.values().forEach(existing -> byHash.putIfAbsent(existing.getContentHash(), existing));
+            for (JsonSchemaEntity schema : schemas) {
+                JsonSchemaEntity existing = byHash.putIfAbsent(schema.getContentHash(), schema);
+                if (existing != null) {
+                    schema.shareContentOf(existing);
+                }
+                current.put(new SchemaKey(schema.getType(), schema.getVersion()), schema);
+            }
+        });
+    }
+    
+    /**
+     * Removes a deleted schema and returns the entry that was removed
+     */
+    public Optional<JsonSchemaEntity> remove(String type, String version) {
+        SchemaKey key = new SchemaKey(type, version);
+        AtomicReference<JsonSchemaEntity> removed = new AtomicReference<>();
+        update(schemas -> removed.set(schemas.remove(key)));
+        return Optional.ofNullable(removed.get());
+    }
+    
+    /**
+     * Re-reads one schema saved by another instance. Returns the entry it
+     * replaced when that entry had different content.
+     */
+    public Optional<JsonSchemaEntity> refresh(String type, String version, String contentHash) {
+        SchemaKey key = new SchemaKey(type, version);
+        Snapshot current = current();
+        JsonSchemaEntity known = current.schemas().get(key);
+        if (known != null && known.getContentHash().equals(contentHash)) {
+            return Optional.empty();
+        }
+        
+        Optional<JsonSchemaEntity> stored = repository.findByTypeAndVersion(type, version);
+        if (stored.isEmpty()) {
+            // Deleted again since; the delete is on its way too
+            return remove(type, version);
+        }
+        JsonSchemaEntity entity = stored.get();
+        if (!entity.hasContent()) {
+            Optional<JsonSchemaEntity> sharing = current.schemas().values().stream()
+                .filter(existing -> existing.getContentHash().equals(entity.getContentHash()))
+                .findAny();
+            if (sharing.isPresent()) {
+                entity.shareContentOf(sharing.get());
+            } else {
+                entity.attachContent(contentRepository.findById(entity.getContentHash())
+                    .orElseThrow(() -> missingContent(entity)));
+            }
+        }
+        
+        AtomicReference<JsonSchemaEntity> replaced = new AtomicReference<>();
+        update(schemas -> replaced.set(schemas.put(key, shareContent(schemas, entity))));
+        return Optional.ofNullable(replaced.get())
+            .filter(previous -> !previous.getContentHash().equals(entity.getContentHash()));
+    }
+    
+    /**
+     * Whether any stored version still has this content
+     */
+    public boolean references(String contentHash) {
+        return current().schemas().values().stream()
+            .anyMatch(schema -> schema.getContentHash().equals(contentHash));
+    }
+    
+    /**
+     * Drops the snapshot so the next read reloads every schema from the database
+     */
+    public void reload() {
+        // A new instance rather than EMPTY, so a load that began before this cannot be published over it
+        snapshot.set(new Snapshot(Map.of(), Map.of(), false));
+    }
+    
+    private Snapshot current() {
+        while (true) {
+            Snapshot before = snapshot.get();
+            if (before.loaded()) {
+                return before;
+            }
+            Map<SchemaKey, JsonSchemaEntity> stored = load();
+            // Entries published before the rows were read were committed by then, so they can be kept.
+            // A save or delete published while the rows were read may be missing from them, or may have 
+            // removed one of them; only rows read after the last publication are published
+            stored.putAll(before.schemas());
+            Snapshot loaded = new Snapshot(Map.copyOf(stored), indexVersions(before, stored), true);
+            if (snapshot.compareAndSet(before, loaded)) {
+                return loaded;
+            }
+        }
+    }
+    
+    private Map<SchemaKey, JsonSchemaEntity> load() {
+        List<JsonSchemaEntity> rows = repository.findAll();
+        Set<String> hashes = rows.stream()
+            .filter(entity -> !entity.hasContent())
+            .map(JsonSchemaEntity::getContentHash)
+            .collect(Collectors.toSet());
+        // One content string per hash, however many versions point at it
+        Map<String, SchemaContentEntity> contents = hashes.isEmpty() ? Map.of() : contentRepository.findAllById(hashes)
+            .stream()
+            .collect(Collectors.toMap(SchemaContentEntity::getHash, Function.identity()));
+        
+        Map<SchemaKey, JsonSchemaEntity> stored = new HashMap<>();
+        for (JsonSchemaEntity entity : rows) {
+            if (!entity.hasContent()) {
+                SchemaContentEntity content = contents.get(entity.getContentHash());
+                if (content == null) {
+                    throw missingContent(entity);
+                }
+                entity.attachContent(content);
+            }
+            stored.put(new SchemaKey(entity.getType(), entity.getVersion()), entity);
+        }
+        return stored;
+    }
+    
+    private JsonSchemaEntity shareContent(Map<SchemaKey, JsonSchemaEntity> schemas, JsonSchemaEntity schema) {
+        schemas.values().stream()
+            .filter(existing -> existing.getContentHash().equals(schema.getContentHash()))
+            .findAny()
+            .ifPresent(schema::shareContentOf);
+        return schema;
+    }
+    
+    private IllegalStateException missingContent(JsonSchemaEntity schema) {
+        return new IllegalStateException("No content stored for schema '" + schema.getType() + 
+            "' version '" + schema.getVersion() + "' (hash " + schema.getContentHash() + ")");
+    }
+    
+    private void update(Consumer<Map<SchemaKey, JsonSchemaEntity>> change) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            Map<SchemaKey, JsonSchemaEntity> schemas = new HashMap<>(current.schemas());
+            change.accept(schemas);
+            Snapshot next = new Snapshot(Map.copyOf(schemas), indexVersions(current, schemas), current.loaded());
+            if (snapshot.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Rebuilds the version index of the types whose versions changed; other types keep their index
+     */
+    private Map<String, SchemaVersions> indexVersions(Snapshot previous, Map<SchemaKey, JsonSchemaEntity> schemas) {
+        Set<String> changedTypes = new HashSet<>();
+        schemas.keySet().stream()
+            .filter(key -> !previous.schemas().containsKey(key))
+            .forEach(key -> changedTypes.add(key.type()));
+        previous.schemas().keySet().stream()
+            .filter(key -> !schemas.containsKey(key))
+            .forEach(key -> changedTypes.add(key.type()));
+        if (changedTypes.isEmpty()) {
+            return previous.versions();
+        }
+        
+        Map<String, List<String>> versionNames = new HashMap<>();
+        schemas.keySet().stream()
+            .filter(key -> changedTypes.contains(key.type()))
+            .forEach(key -> versionNames.computeIfAbsent(key.type(), type -> new ArrayList<>()).add(key.version()));
+        
+        Map<String, SchemaVersions> versions = new HashMap<>(previous.versions());
+        for (String type : changedTypes) {
+            List<String> names = versionNames.get(type);
+            if (names == null) {
+                versions.remove(type);
+            } else {
+                versions.put(type, SchemaVersions.of(names));
+            }
+        }
+        return Map.copyOf(versions);
+    }
+    
+    private record Snapshot(Map<SchemaKey, JsonSchemaEntity> schemas, Map<String, SchemaVersions> versions, 
+            boolean loaded) {
+        
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), false);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The release versions of one schema type in ascending semver order. Immutable;
+ * a new index is built when a version of the type is saved. Pre-release
+ * versions and versions that are not semver are only reachable by their exact name.
+ */
+final class SchemaVersions {
+    
+    private static final Comparator<Map.Entry<SemanticVersion, String>> ORDER = 
+        Map.Entry.<SemanticVersion, String>comparingByKey().thenComparing(Map.Entry.comparingByValue());
+    
+    private final SemanticVersion[] versions;
+    private final String[] names;
+    
+    private SchemaVersions(SemanticVersion[] versions, String[] names) {
+        this.versions = versions;
+        this.names = names;
+    }
+    
+    static SchemaVersions of(Collection<String> versionNames) {
+        @SuppressWarnings("unchecked")
+        Map.Entry<SemanticVersion, String>[] entries = versionNames.stream()
+            .flatMap(name -> SemanticVersion.parse(name)
+                .filter(version -> !version.isPreRelease())
+                .map(version -> Map.entry(version, name))
+                .stream())
+            .sorted(ORDER)
+            .toArray(Map.Entry[]::new);
+        return new SchemaVersions(
+            Arrays.stream(entries).map(Map.Entry::getKey).toArray(SemanticVersion[]::new),
+            Arrays.stream(entries).map(Map.Entry::getValue).toArray(String[]::new));
+    }
+    
+    /**
+     * The name of the highest version matching the range, found with one binary search per alternative
+     */
+    Optional<String> resolve(VersionRange range) {
+        int best = -1;
+        for (VersionRange.Interval interval : range.intervals()) {
+            int candidate = highestNotAbove(interval);
+            if (candidate > best && !interval.tooLow(versions[candidate])) {
+                best = candidate;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(names[best]);
+    }
+    
+    /**
+     * Index of the last version not above the interval's upper bound, or -1
+     */
+    private int highestNotAbove(VersionRange.Interval interval) {
+        int low = 0;
+        int high = versions.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (interval.tooHigh(versions[middle])) {
+                high = middle - 1;
+            } else {
+                found = middle;
+                low = middle + 1;
+            }
+        }
+        return found;
+    }
+}
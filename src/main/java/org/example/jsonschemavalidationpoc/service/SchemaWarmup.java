@@ -0,0 +1,87 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.jsonschemavalidationpoc.config.SchemaWarmupProperties;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads and compiles stored schemas at startup. Spring Boot only reports the
+ * instance as ready to accept traffic after all application runners have
+ * finished, so readiness is held back until warm-up completes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaWarmup implements ApplicationRunner {
+    
+    private final SchemaRegistry schemaRegistry;
+    private final JsonSchemaService jsonSchemaService;
+    private final SchemaWarmupProperties properties;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            warmUp();
+        }
+    }
+    
+    /**
+     * Compiles the configured schemas in parallel and returns how many were compiled
+     */
+    public int warmUp() {
+        long started = System.nanoTime();
+        List<JsonSchemaEntity> schemas = loadSchemas();
+        AtomicInteger compiled = new AtomicInteger();
+        
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, properties.getParallelism()));
+        try {
+            pool.submit(() -> schemas.parallelStream().forEach(entity -> {
+                try {
+                    jsonSchemaService.preloadSchema(entity);
+                    compiled.incrementAndGet();
+                } catch (RuntimeException e) {
+                    log.warn("Could not warm schema {}:{}: {}", entity.getType(), entity.getVersion(), e.getMessage());
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+        
+        log.info("Warmed {} of {} schemas in {} ms", compiled.get(), schemas.size(), 
+            (System.nanoTime() - started) / 1_000_000);
+        return compiled.get();
+    }
+    
+    private List<JsonSchemaEntity> loadSchemas() {
+        if (properties.getSchemas().isEmpty()) {
+            return List.copyOf(schemaRegistry.findAll());
+        }
+        return properties.getSchemas().stream()
+            .map(this::findConfiguredSchema)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+    
+    private Optional<JsonSchemaEntity> findConfiguredSchema(String entry) {
+        int separator = entry.lastIndexOf(':');
+        if (separator <= 0 || separator == entry.length() - 1) {
+            log.warn("Ignoring warm-up entry '{}', expected type:version", entry);
+            return Optional.empty();
+        }
+        Optional<JsonSchemaEntity> schema = schemaRegistry.find(
+            entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+        if (schema.isEmpty()) {
+            log.warn("Ignoring warm-up entry '{}', no such schema is stored", entry);
+        }
+        return schema;
+    }
+}
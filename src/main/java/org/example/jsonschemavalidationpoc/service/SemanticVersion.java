@@ -0,0 +1,61 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A version string read as semver. Missing minor and patch parts count as zero,
+ * so "1.0" is 1.0.0; build metadata is ignored.
+ */
+public record SemanticVersion(int major, int minor, int patch, String preRelease) 
+        implements Comparable<SemanticVersion> {
+    
+    private static final Pattern VERSION = Pattern.compile(
+        "v?(\\d+)(?:\\.(\\d+))?(?:\\.(\\d+))?(?:-([0-9A-Za-z.-]+))?(?:\\+[0-9A-Za-z.-]+)?");
+    
+    public static Optional<SemanticVersion> parse(String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = VERSION.matcher(version.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new SemanticVersion(
+                Integer.parseInt(matcher.group(1)),
+                matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2)),
+                matcher.group(3) == null ? 0 : Integer.parseInt(matcher.group(3)),
+                matcher.group(4)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+    
+    public static SemanticVersion of(int major, int minor, int patch) {
+        return new SemanticVersion(major, minor, patch, null);
+    }
+    
+    public boolean isPreRelease() {
+        return preRelease != null;
+    }
+    
+    @Override
+    public int compareTo(SemanticVersion other) {
+        int result = Integer.compare(major, other.major);
+        if (result == 0) {
+            result = Integer.compare(minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(patch, other.patch);
+        }
+        if (result == 0 && isPreRelease() != other.isPreRelease()) {
+            // 1.0.0-rc.1 comes before 1.0.0
+            result = isPreRelease() ? -1 : 1;
+        } else if (result == 0 && isPreRelease()) {
+            result = preRelease.compareTo(other.preRelease);
+        }
+        return result;
+    }
+}
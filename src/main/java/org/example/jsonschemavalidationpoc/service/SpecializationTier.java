@@ -0,0 +1,36 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.config.SpecializedValidationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides when a compiled schema is promoted to a specialized validator.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpecializationTier {
+    
+    private final SpecializedValidatorCompiler specializedValidatorCompiler;
+    private final SpecializedValidationProperties properties;
+    
+    /**
+     * Counts a use of the schema and returns its specialized validator, building it
+     * once the usage threshold is reached. Returns null while the generic engine
+     * should be used.
+     */
+    public SpecializedValidator forUse(CompiledSchema compiled) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        SpecializedValidator specialized = compiled.specialized();
+        if (specialized != null || compiled.isSpecializationClaimed()) {
+            return specialized;
+        }
+        if (compiled.recordUse() > properties.getUsageThreshold() && compiled.claimSpecialization()) {
+            specialized = specializedValidatorCompiler.compile(compiled.schema().getSchemaNode()).orElse(null);
+            compiled.setSpecialized(specialized);
+        }
+        return specialized;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A validator built for one particular schema that answers only valid or invalid.
+ */
+@FunctionalInterface
+public interface SpecializedValidator {
+    
+    boolean isValid(JsonNode node);
+}
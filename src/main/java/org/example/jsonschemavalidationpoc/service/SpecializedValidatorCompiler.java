@@ -0,0 +1,444 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.OutputFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Turns a schema into a tree of checks that test types, required fields,
+ * enums and ranges directly on the document, instead of walking the generic
+ * keyword tree on every call. Sub-schemas that use keywords without a
+ * specialized check are handed to the generic engine as a whole.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpecializedValidatorCompiler {
+
+    private static final Set<String> IGNORED_KEYWORDS = Set.of(
+        "$schema", "$id", "$comment", "title", "description", "default", "examples",
+        "readOnly", "writeOnly", "definitions");
+
+    private static final Set<String> SUPPORTED_KEYWORDS = Set.of(
+        "type", "properties", "required", "additionalProperties", "enum", "const",
+        "minimum", "maximum", "exclusiveMinimum", "exclusiveMaximum",
+        "minLength", "maxLength", "pattern", "items", "minItems", "maxItems",
+        "minProperties", "maxProperties", "allOf", "anyOf", "oneOf", "not",
+        "if", "then", "else");
+
+    private static final Set<String> TYPE_NAMES = Set.of(
+        "object", "array", "string", "number", "integer", "boolean", "null");
+
+    private final SchemaCompiler schemaCompiler;
+
+    /**
+     * Returns a specialized validator, or empty when the schema uses references
+     * or its root has nothing the specialized checks can handle.
+     */
+    public Optional<SpecializedValidator> compile(JsonNode schemaNode) {
+        if (containsReference(schemaNode) || !isSupported(schemaNode)) {
+            return Optional.empty();
+        }
+        return Optional.of(compileNode(schemaNode));
+    }
+
+    private SpecializedValidator compileNode(JsonNode schema) {
+        if (schema.isBoolean()) {
+            boolean result = schema.booleanValue();
+            return node -> result;
+        }
+        if (!isSupported(schema)) {
+            return fallback(schema);
+        }
+
+        List<SpecializedValidator> checks = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> field : schema.properties()) {
+            SpecializedValidator check = compileKeyword(schema, field.getKey(), field.getValue());
+            if (check != null) {
+                checks.add(check);
+            }
+        }
+
+        SpecializedValidator[] all = checks.toArray(new SpecializedValidator[0]);
+        if (all.length == 1) {
+            return all[0];
+        }
+        return node -> {
+            for (SpecializedValidator check : all) {
+                if (!check.isValid(node)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private SpecializedValidator compileKeyword(JsonNode schema, String keyword, JsonNode value) {
+        switch (keyword) {
+            case "type":
+                return compileType(value);
+            case "properties":
+                return compileProperties(value);
+            case "required":
+                return compileRequired(value);
+            case "additionalProperties":
+                return compileAdditionalProperties(schema.get("properties"), value);
+            case "enum":
+                Set<JsonNode> allowed = new HashSet<>();
+                value.forEach(allowed::add);
+                return allowed::contains;
+            case "const":
+                return value::equals;
+            case "minimum": {
+                BigDecimal limit = value.decimalValue();
+                return node -> !node.isNumber() || node.decimalValue().compareTo(limit) >= 0;
+            }
+            case "maximum": {
+                BigDecimal limit = value.decimalValue();
+                return node -> !node.isNumber() || node.decimalValue().compareTo(limit) <= 0;
+            }
+            case "exclusiveMinimum": {
+                BigDecimal limit = value.decimalValue();
+                return node -> !node.isNumber() || node.decimalValue().compareTo(limit) > 0;
+            }
+            case "exclusiveMaximum": {
+                BigDecimal limit = value.decimalValue();
+                return node -> !node.isNumber() || node.decimalValue().compareTo(limit) < 0;
+            }
+            case "minLength": {
+                int limit = value.intValue();
+                return node -> !node.isTextual() || codePoints(node) >= limit;
+            }
+            case "maxLength": {
+                int limit = value.intValue();
+                return node -> !node.isTextual() || codePoints(node) <= limit;
+            }
+            case "pattern": {
+                Pattern pattern = Pattern.compile(value.textValue());
+                return node -> !node.isTextual() || pattern.matcher(node.textValue()).find();
+            }
+            case "items":
+                return compileItems(value);
+            case "minItems": {
+                int limit = value.intValue();
+                return node -> !node.isArray() || node.size() >= limit;
+            }
+            case "maxItems": {
+                int limit = value.intValue();
+                return node -> !node.isArray() || node.size() <= limit;
+            }
+            case "minProperties": {
+                int limit = value.intValue();
+                return node -> !node.isObject() || node.size() >= limit;
+            }
+            case "maxProperties": {
+                int limit = value.intValue();
+                return node -> !node.isObject() || node.size() <= limit;
+            }
+            case "allOf": {
+                SpecializedValidator[] subschemas = compileAll(value);
+                return node -> {
+                    for (SpecializedValidator subschema : subschemas) {
+                        if (!subschema.isValid(node)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+            case "anyOf": {
+                SpecializedValidator[] subschemas = compileAll(value);
+                return node -> {
+                    for (SpecializedValidator subschema : subschemas) {
+                        if (subschema.isValid(node)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+            case "oneOf": {
+                SpecializedValidator[] subschemas = compileAll(value);
+                return node -> {
+                    int matches = 0;
+                    for (SpecializedValidator subschema : subschemas) {
+                        if (subschema.isValid(node) && ++matches > 1) {
+                            return false;
+                        }
+                    }
+                    return matches == 1;
+                };
+            }
+            case "not": {
+                SpecializedValidator subschema = compileNode(value);
+                return node -> !subschema.isValid(node);
+            }
+            case "if": {
+                SpecializedValidator condition = compileNode(value);
+                SpecializedValidator then = schema.has("then") ? compileNode(schema.get("then")) : node -> true;
+                SpecializedValidator otherwise = schema.has("else") ? compileNode(schema.get("else")) : node -> true;
+                return node -> condition.isValid(node) ? then.isValid(node) : otherwise.isValid(node);
+            }
+            default:
+                // Annotations, and then/else which are handled together with if
+                return null;
+        }
+    }
+
+    private SpecializedValidator compileType(JsonNode value) {
+        if (value.isTextual()) {
+            return typeCheck(value.textValue());
+        }
+        List<SpecializedValidator> alternatives = new ArrayList<>();
+        value.forEach(type -> alternatives.add(typeCheck(type.textValue())));
+        SpecializedValidator[] all = alternatives.toArray(new SpecializedValidator[0]);
+        return node -> {
+            for (SpecializedValidator alternative : all) {
+                if (alternative.isValid(node)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private SpecializedValidator typeCheck(String type) {
+        switch (type) {
+            case "object":
+                return JsonNode::isObject;
+            case "array":
+                return JsonNode::isArray;
+            case "string":
+                return JsonNode::isTextual;
+            case "number":
+                return JsonNode::isNumber;
+            case "integer":
+                // Since draft-06 a number with a zero fractional part is an integer
+                return node -> node.isIntegralNumber()
+                    || (node.isNumber() && node.decimalValue().stripTrailingZeros().scale() <= 0);
+            case "boolean":
+                return JsonNode::isBoolean;
+            default:
+                return JsonNode::isNull;
+        }
+    }
+
+    private SpecializedValidator compileProperties(JsonNode properties) {
+        Map<String, SpecializedValidator> compiled = new LinkedHashMap<>();
+        properties.properties().forEach(entry -> compiled.put(entry.getKey(), compileNode(entry.getValue())));
+        String[] names = compiled.keySet().toArray(new String[0]);
+        SpecializedValidator[] validators = compiled.values().toArray(new SpecializedValidator[0]);
+        return node -> {
+            if (!node.isObject()) {
+                return true;
+            }
+            for (int i = 0; i < names.length; i++) {
+                JsonNode property = node.get(names[i]);
+                if (property != null && !validators[i].isValid(property)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private SpecializedValidator compileRequired(JsonNode required) {
+        List<String> names = new ArrayList<>();
+        required.forEach(name -> names.add(name.textValue()));
+        String[] all = names.toArray(new String[0]);
+        return node -> {
+            if (!node.isObject()) {
+                return true;
+            }
+            for (String name : all) {
+                if (!node.has(name)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private SpecializedValidator compileAdditionalProperties(JsonNode properties, JsonNode value) {
+        Set<String> declared = new HashSet<>();
+        if (properties != null) {
+            properties.fieldNames().forEachRemaining(declared::add);
+        }
+        SpecializedValidator additional = compileNode(value);
+        return node -> {
+            if (!node.isObject()) {
+                return true;
+            }
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                if (!declared.contains(field.getKey()) && !additional.isValid(field.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private SpecializedValidator compileItems(JsonNode items) {
+        SpecializedValidator item = compileNode(items);
+        return node -> {
+            if (!node.isArray()) {
+                return true;
+            }
+            for (JsonNode element : node) {
+                if (!item.isValid(element)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private SpecializedValidator[] compileAll(JsonNode subschemas) {
+        List<SpecializedValidator> compiled = new ArrayList<>();
+        subschemas.forEach(subschema -> compiled.add(compileNode(subschema)));
+        return compiled.toArray(new SpecializedValidator[0]);
+    }
+
+    /**
+     * Validates a sub-schema with the generic engine. Only used for schemas
+     * without references, so the sub-schema means the same on its own.
+     */
+    private SpecializedValidator fallback(JsonNode schema) {
+        JsonSchema generic = schemaCompiler.compile(schema);
+        return node -> generic.validate(node, OutputFormat.BOOLEAN);
+    }
+
+    private boolean isSupported(JsonNode schema) {
+        if (schema.isBoolean()) {
+            return true;
+        }
+        if (!schema.isObject()) {
+            return false;
+        }
+        for (Map.Entry<String, JsonNode> field : schema.properties()) {
+            String keyword = field.getKey();
+            if (IGNORED_KEYWORDS.contains(keyword)) {
+                continue;
+            }
+            if (!SUPPORTED_KEYWORDS.contains(keyword) || !hasSupportedValue(keyword, field.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasSupportedValue(String keyword, JsonNode value) {
+        switch (keyword) {
+            case "type":
+                if (value.isTextual()) {
+                    return TYPE_NAMES.contains(value.textValue());
+                }
+                if (!value.isArray() || value.isEmpty()) {
+                    return false;
+                }
+                for (JsonNode type : value) {
+                    if (!type.isTextual() || !TYPE_NAMES.contains(type.textValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            case "properties":
+                return value.isObject();
+            case "required":
+                if (!value.isArray()) {
+                    return false;
+                }
+                for (JsonNode name : value) {
+                    if (!name.isTextual()) {
+                        return false;
+                    }
+                }
+                return true;
+            case "additionalProperties":
+            case "items":
+            case "not":
+            case "if":
+            case "then":
+            case "else":
+                return value.isObject() || value.isBoolean();
+            case "enum":
+                if (!value.isArray()) {
+                    return false;
+                }
+                for (JsonNode allowed : value) {
+                    if (!isPlainScalar(allowed)) {
+                        return false;
+                    }
+                }
+                return true;
+            case "const":
+                return isPlainScalar(value);
+            case "minimum":
+            case "maximum":
+            case "exclusiveMinimum":
+            case "exclusiveMaximum":
+                return value.isNumber();
+            case "minLength":
+            case "maxLength":
+            case "minItems":
+            case "maxItems":
+            case "minProperties":
+            case "maxProperties":
+                return value.isIntegralNumber() && value.canConvertToInt() && value.intValue() >= 0;
+            case "pattern":
+                if (!value.isTextual()) {
+                    return false;
+                }
+                try {
+                    Pattern.compile(value.textValue());
+                    return true;
+                } catch (PatternSyntaxException e) {
+                    return false;
+                }
+            case "allOf":
+            case "anyOf":
+            case "oneOf":
+                return value.isArray() && !value.isEmpty();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Numbers are left to the generic engine because JSON equality treats 1 and 1.0 as equal
+     */
+    private boolean isPlainScalar(JsonNode value) {
+        return value.isTextual() || value.isBoolean() || value.isNull();
+    }
+
+    private boolean containsReference(JsonNode node) {
+        if (node.isObject()) {
+            if (node.has("$ref")) {
+                return true;
+            }
+            for (JsonNode child : node) {
+                if (containsReference(child)) {
+                    return true;
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode child : node) {
+                if (containsReference(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int codePoints(JsonNode node) {
+        String text = node.textValue();
+        return text.codePointCount(0, text.length());
+    }
+}
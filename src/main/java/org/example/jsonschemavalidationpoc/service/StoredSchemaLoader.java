@@ -0,0 +1,74 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.networknt.schema.AbsoluteIri;
+import com.networknt.schema.resource.InputStreamSource;
+import com.networknt.schema.resource.SchemaLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Resolves "schema://{type}/{version}" references to stored schemas, where the
+ * version may also be "latest" or a range. The only other references allowed
+ * are the json-schema.org metaschemas bundled with the validator, which it maps
+ * to classpath resources; every other IRI is refused, so compiling or validating
+ * never reads the network, the filesystem or other classpath resources.
+ */
+final class StoredSchemaLoader implements SchemaLoader {
+    
+    static final String PREFIX = "schema://";
+    
+    /** Classpath locations of the metaschemas shipped in the validator jar */
+    private static final List<String> METASCHEMA_PREFIXES = List.of(
+        "classpath:draft-04/", "classpath:draft-06/", "classpath:draft-07/",
+        "classpath:draft/2019-09/", "classpath:draft/2020-12/");
+    
+    private final Function<SchemaKey, Optional<String>> lookup;
+    private final Set<SchemaKey> references;
+    
+    StoredSchemaLoader(Function<SchemaKey, Optional<String>> lookup, Set<SchemaKey> references) {
+        this.lookup = lookup;
+        this.references = references;
+    }
+    
+    @Override
+    public InputStreamSource getSchema(AbsoluteIri absoluteIri) {
+        String iri = absoluteIri.toString();
+        if (iri.startsWith(PREFIX)) {
+            SchemaKey key = parse(iri);
+            // Recorded before the lookup, so a schema saved later under this key also invalidates the root
+            references.add(key);
+            byte[] content = lookup.apply(key)
+                .orElseThrow(() -> new IllegalArgumentException("Referenced schema not found: '" + iri + "'"))
+                .getBytes(StandardCharsets.UTF_8);
+            return () -> new ByteArrayInputStream(content);
+        }
+        if (isMetaschema(iri)) {
+            // Left to the validator's classpath loader
+            return null;
+        }
+        return () -> {
+            throw new FileNotFoundException("Reference '" + iri + 
+                "' is not fetched; store the schema and refer to it as " + PREFIX + "{type}/{version}");
+        };
+    }
+    
+    private static boolean isMetaschema(String iri) {
+        return !iri.contains("..") && METASCHEMA_PREFIXES.stream().anyMatch(iri::startsWith);
+    }
+    
+    static SchemaKey parse(String iri) {
+        String path = iri.substring(PREFIX.length());
+        int separator = path.indexOf('/');
+        if (separator <= 0 || separator == path.length() - 1) {
+            throw new IllegalArgumentException("Invalid schema reference '" + iri + 
+                "'; expected " + PREFIX + "{type}/{version}");
+        }
+        return new SchemaKey(path.substring(0, separator), path.substring(separator + 1));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.jsonschemavalidationpoc.dto.StreamValidationResult;
+import org.example.jsonschemavalidationpoc.dto.ValidationMode;
+import org.example.jsonschemavalidationpoc.dto.ValidationResponse;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+
+@Service
+@RequiredArgsConstructor
+public class StreamingValidationService {
+    
+    private final ObjectMapper objectMapper;
+    private final JsonSchemaService jsonSchemaService;
+    private final SchemaMetrics schemaMetrics;
+    
+    /**
+     * Reads newline-delimited JSON records one at a time and writes one result
+     * line per record, so only the current record is ever held in memory.
+     * A malformed record ends the stream because the parser cannot resynchronise.
+     */
+    public void validateStream(SchemaKey key, CompiledSchema compiled, InputStream input, OutputStream output, 
+            ValidationMode mode) throws IOException {
+        long record = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            while (true) {
+                long line = parser.currentTokenLocation().getLineNr();
+                try {
+                    if (parser.nextToken() == null) {
+                        break;
+                    }
+                    record++;
+                    line = parser.currentTokenLocation().getLineNr();
+                    long start = parser.currentTokenLocation().getByteOffset();
+                    JsonNode jsonNode = objectMapper.readTree(parser);
+                    long end = parser.currentLocation().getByteOffset();
+                    if (start >= 0 && end >= start) {
+                        schemaMetrics.recordPayloadSize(key, end - start);
+                    }
+                    ValidationResponse response = jsonSchemaService.validateNode(key, compiled, jsonNode, mode);
+                    writeResult(output, new StreamValidationResult(record, line, 
+                        response.isValid(), response.getErrors()));
+                } catch (JsonProcessingException e) {
+                    writeResult(output, new StreamValidationResult(record, line, false, 
+                        Collections.singletonList("Malformed JSON record: " + e.getOriginalMessage())));
+                    break;
+                }
+            }
+        }
+        output.flush();
+    }
+    
+    private void writeResult(OutputStream output, StreamValidationResult result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write('\n');
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A version selector: "latest", or an npm-style semver range such as "^1.2",
+ * "~1.4.0", "1.x", ">=1.0 <2.0" or "1.x || 3.x". Each alternative is kept as a
+ * single interval so it can be resolved with a binary search.
+ */
+public final class VersionRange {
+    
+    public static final String LATEST = "latest";
+    
+    private static final Pattern COMPARATOR = Pattern.compile(
+        "(\\^|~|>=|<=|>|<|=)?\\s*v?(\\d+|[xX*])(?:\\.(\\d+|[xX*]))?(?:\\.(\\d+|[xX*]))?(?:-[0-9A-Za-z.-]+)?(?:\\+[0-9A-Za-z.-]+)?");
+    private static final Pattern OPERATOR_SPACING = Pattern.compile("(\\^|~|>=|<=|>|<|=)\\s+");
+    
+    private final List<Interval> intervals;
+    
+    private VersionRange(List<Interval> intervals) {
+        this.intervals = intervals;
+    }
+    
+    /**
+     * Whether the version string asks for resolution rather than naming one version
+     */
+    public static boolean isSelector(String version) {
+        if (version == null) {
+            return false;
+        }
+        String trimmed = version.trim().toLowerCase(Locale.ROOT);
+        return trimmed.equals(LATEST) 
+            || trimmed.chars().anyMatch(c -> "^~<>=*| ".indexOf(c) >= 0)
+            || trimmed.matches("v?\\d+(\\.\\d+)?(\\.x)?\\.x|x");
+    }
+    
+    public static VersionRange parse(String selector) {
+        String trimmed = selector.trim();
+        if (trimmed.equalsIgnoreCase(LATEST)) {
+            return new VersionRange(List.of(Interval.ANY));
+        }
+        
+        List<Interval> intervals = new ArrayList<>();
+        for (String alternative : trimmed.split("\\|\\|")) {
+            Interval interval = Interval.ANY;
+            String comparators = OPERATOR_SPACING.matcher(alternative.trim()).replaceAll("$1");
+            if (!comparators.isEmpty()) {
+                for (String comparator : comparators.split("\\s+")) {
+                    interval = interval.intersect(parseComparator(selector, comparator));
+                }
+            }
+            intervals.add(interval);
+        }
+        return new VersionRange(List.copyOf(intervals));
+    }
+    
+    List<Interval> intervals() {
+        return intervals;
+    }
+    
+    private static Interval parseComparator(String selector, String comparator) {
+        Matcher matcher = COMPARATOR.matcher(comparator);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid version range '" + selector + "'");
+        }
+        String operator = matcher.group(1) == null ? "" : matcher.group(1);
+        Integer major = number(matcher.group(2));
+        Integer minor = major == null ? null : number(matcher.group(3));
+        Integer patch = minor == null ? null : number(matcher.group(4));
+        if (major == null) {
+            return operator.startsWith("<") || operator.equals(">") ? Interval.NONE : Interval.ANY;
+        }
+        
+        SemanticVersion floor = SemanticVersion.of(major, minor == null ? 0 : minor, patch == null ? 0 : patch);
+        // The first version after every version the partial one stands for: 1.2 covers 1.2.x, so 1.3.0
+        SemanticVersion next = patch != null ? SemanticVersion.of(major, minor, patch + 1)
+            : minor != null ? SemanticVersion.of(major, minor + 1, 0)
+            : SemanticVersion.of(major + 1, 0, 0);
+        
+        return switch (operator) {
+            case ">=" -> new Interval(floor, true, null, false);
+            case ">" -> new Interval(next, true, null, false);
+            case "<" -> new Interval(null, false, floor, false);
+            case "<=" -> new Interval(null, false, next, false);
+            case "~" -> new Interval(floor, true, 
+                minor == null ? SemanticVersion.of(major + 1, 0, 0) : SemanticVersion.of(major, minor + 1, 0), false);
+            case "^" -> new Interval(floor, true, caretCeiling(major, minor, patch), false);
+            default -> new Interval(floor, true, next, false);
+        };
+    }
+    
+    /**
+     * ^ allows changes that do not modify the left-most non-zero part
+     */
+    private static SemanticVersion caretCeiling(int major, Integer minor, Integer patch) {
+        if (major > 0 || minor == null) {
+            return SemanticVersion.of(major + 1, 0, 0);
+        }
+        if (minor > 0 || patch == null) {
+            return SemanticVersion.of(0, minor + 1, 0);
+        }
+        return SemanticVersion.of(0, 0, patch + 1);
+    }
+    
+    private static Integer number(String part) {
+        return part == null || part.equalsIgnoreCase("x") || part.equals("*") ? null : Integer.valueOf(part);
+    }
+    
+    /**
+     * Versions between the bounds; a null bound is open
+     */
+    record Interval(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper, boolean upperInclusive) {
+        
+        static final Interval ANY = new Interval(null, false, null, false);
+        static final Interval NONE = new Interval(null, false, SemanticVersion.of(0, 0, 0), false);
+        
+        Interval intersect(Interval other) {
+            SemanticVersion newLower = lower;
+            boolean newLowerInclusive = lowerInclusive;
+            if (other.lower != null && (lower == null || other.lower.compareTo(lower) > 0 
+                    || other.lower.compareTo(lower) == 0 && !other.lowerInclusive)) {
+                newLower = other.lower;
+                newLowerInclusive = other.lowerInclusive;
+            }
+            SemanticVersion newUpper = upper;
+            boolean newUpperInclusive = upperInclusive;
+            if (other.upper != null && (upper == null || other.upper.compareTo(upper) < 0 
+                    || other.upper.compareTo(upper) == 0 && !other.upperInclusive)) {
+                newUpper = other.upper;
+                newUpperInclusive = other.upperInclusive;
+            }
+            return new Interval(newLower, newLowerInclusive, newUpper, newUpperInclusive);
+        }
+        
+        boolean tooHigh(SemanticVersion version) {
+            return upper != null && (upperInclusive ? version.compareTo(upper) > 0 : version.compareTo(upper) >= 0);
+        }
+        
+        boolean tooLow(SemanticVersion version) {
+            return lower != null && (lowerInclusive ? version.compareTo(lower) < 0 : version.compareTo(lower) <= 0);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.jsonschemavalidationpoc.benchmark;
+
+import org.example.jsonschemavalidationpoc.service.ArtifactCache;
+import org.example.jsonschemavalidationpoc.service.AvroConverterService;
+import org.example.jsonschemavalidationpoc.service.JsonSchemaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Avro conversion and POJO jar generation for each benchmark schema. Jar
+ * generation is measured with the artifact cache emptied before every call,
+ * and separately as a cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtifactBenchmark {
+
+    @Param({"user", "person", "wide", "deep"})
+    public String schema;
+
+    private ConfigurableApplicationContext context;
+    private JsonSchemaService jsonSchemaService;
+    private AvroConverterService avroConverterService;
+    private ArtifactCache artifactCache;
+    private BenchmarkFixtures.Fixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.start();
+        jsonSchemaService = context.getBean(JsonSchemaService.class);
+        avroConverterService = context.getBean(AvroConverterService.class);
+        artifactCache = context.getBean(ArtifactCache.class);
+        fixture = BenchmarkFixtures.FIXTURES.get(schema);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String convertToAvro() {
+        return avroConverterService.convertJsonSchemaToAvro(fixture.schemaContent(), fixture.type());
+    }
+
+    @Benchmark
+    public byte[] generatePojoJar(EmptyArtifactCache empty) {
+        return jsonSchemaService.generatePojoJar(fixture.type(), fixture.version());
+    }
+
+    @Benchmark
+    public byte[] generatePojoJarCached() {
+        return jsonSchemaService.generatePojoJar(fixture.type(), fixture.version());
+    }
+
+    /**
+     * Empties the artifact cache before each call, outside the measured time,
+     * so every call generates the jar.
+     */
+    @State(Scope.Thread)
+    public static class EmptyArtifactCache {
+
+        @Setup(Level.Invocation)
+        public void invalidate(ArtifactBenchmark benchmark) {
+            benchmark.artifactCache.invalidateAll();
+        }
+    }
+}
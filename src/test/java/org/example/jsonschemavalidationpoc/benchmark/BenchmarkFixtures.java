@@ -0,0 +1,73 @@
+package org.example.jsonschemavalidationpoc.benchmark;
+
+import org.example.jsonschemavalidationpoc.JsonSchemaValidationPocApplication;
+import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.service.JsonSchemaService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Boots the application without a web server and stores the benchmark schemas.
+ */
+final class BenchmarkFixtures {
+
+    static final int WIDE_PROPERTIES = 500;
+    static final int DEEP_LEVELS = 40;
+
+    /**
+     * A stored schema plus a document that passes and one that fails validation.
+     */
+    record Fixture(String type, String version, String schemaContent, String validDocument, String invalidDocument) {
+    }
+
+    static final Map<String, Fixture> FIXTURES = Map.of(
+        "user", new Fixture("user", "1.0",
+            read("examples/user-schema.json"),
+            read("examples/valid-user.json"),
+            read("examples/invalid-user.json")),
+        "person", new Fixture("person", "2.0",
+            read("examples/nested-person-schema.json"),
+            "{\"id\":1,\"name\":\"Jane Smith\",\"email\":\"jane@example.com\",\"address\":{\"street\":\"456 Oak Ave\",\"city\":\"San Francisco\",\"coordinates\":{\"latitude\":37.7749,\"longitude\":-122.4194}},\"phoneNumbers\":[{\"type\":\"mobile\",\"number\":\"555-123-4567\"}],\"employment\":{\"company\":\"Tech Corp\",\"salary\":120000,\"benefits\":{\"healthInsurance\":true}}}",
+            "{\"id\":\"x\",\"name\":1,\"address\":{\"street\":1},\"phoneNumbers\":[{\"type\":\"fax\"}],\"employment\":{\"salary\":\"high\"}}"),
+        "wide", new Fixture("wide", "1.0",
+            SyntheticSchemas.wideSchema(WIDE_PROPERTIES),
+            SyntheticSchemas.wideDocument(WIDE_PROPERTIES, true),
+            SyntheticSchemas.wideDocument(WIDE_PROPERTIES, false)),
+        "deep", new Fixture("deep", "1.0",
+            SyntheticSchemas.deepSchema(DEEP_LEVELS),
+            SyntheticSchemas.deepDocument(DEEP_LEVELS, true),
+            SyntheticSchemas.deepDocument(DEEP_LEVELS, false)));
+
+    private BenchmarkFixtures() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JsonSchemaValidationPocApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN")
+            .run();
+
+        JsonSchemaService jsonSchemaService = context.getBean(JsonSchemaService.class);
+        FIXTURES.values().forEach(fixture -> jsonSchemaService.saveSchema(
+            new SchemaRequest(fixture.type(), fixture.version(), fixture.schemaContent())));
+        return context;
+    }
+
+    private static String read(String path) {
+        try {
+            return Files.readString(Path.of(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
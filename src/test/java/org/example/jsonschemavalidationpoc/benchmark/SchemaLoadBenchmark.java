@@ -0,0 +1,59 @@
+package org.example.jsonschemavalidationpoc.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.jsonschemavalidationpoc.config.SchemaCompressionProperties;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentCompression;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.service.SchemaCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold loading of a stored schema: parsing the pretty-printed text as saved
+ * versus decoding the persisted Smile binary form. Both are stored as the
+ * database would hold them, compressed when large enough, and read back
+ * through a freshly loaded entity, so decompression is part of each load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaLoadBenchmark {
+
+    @Param({"wide", "deep"})
+    public String schema;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SchemaCodec schemaCodec = new SchemaCodec();
+    private SchemaContentEntity stored;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JsonNode schemaNode = objectMapper.readTree(BenchmarkFixtures.FIXTURES.get(schema).schemaContent());
+        String textContent = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(schemaNode);
+        stored = new SchemaContentEntity(schema, textContent, schemaCodec.normalize(schemaNode), 
+            schemaCodec.encode(schemaNode));
+        new SchemaContentCompression(new SchemaCompressionProperties()).compress(stored);
+    }
+
+    @Benchmark
+    public JsonNode loadText() throws Exception {
+        return objectMapper.readTree(load().getSchemaContent());
+    }
+
+    @Benchmark
+    public JsonNode loadBinary() {
+        return schemaCodec.decode(load().getBinaryContent());
+    }
+
+    private JsonSchemaEntity load() {
+        JsonSchemaEntity entity = new JsonSchemaEntity();
+        entity.attachContent(stored);
+        return entity;
+    }
+}
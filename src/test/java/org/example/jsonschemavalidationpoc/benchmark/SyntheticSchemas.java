@@ -0,0 +1,85 @@
+package org.example.jsonschemavalidationpoc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates large and deeply nested schemas, with matching documents, for benchmarks.
+ */
+final class SyntheticSchemas {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SyntheticSchemas() {
+    }
+
+    /**
+     * An object schema with the given number of typed, constrained properties, all required
+     */
+    static String wideSchema(int properties) {
+        ObjectNode schema = MAPPER.createObjectNode();
+        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
+        schema.put("type", "object");
+        ObjectNode props = schema.putObject("properties");
+        ArrayNode required = schema.putArray("required");
+        for (int i = 0; i < properties; i++) {
+            ObjectNode property = props.putObject("field" + i);
+            switch (i % 3) {
+                case 0 -> property.put("type", "string").put("minLength", 1).put("maxLength", 64);
+                case 1 -> property.put("type", "integer").put("minimum", 0).put("maximum", 1_000_000);
+                default -> property.put("type", "string").putArray("enum").add("a").add("b").add("c");
+            }
+            required.add("field" + i);
+        }
+        return schema.toString();
+    }
+
+    static String wideDocument(int properties, boolean valid) {
+        ObjectNode document = MAPPER.createObjectNode();
+        for (int i = 0; i < properties; i++) {
+            switch (i % 3) {
+                case 0 -> document.put("field" + i, valid ? "value" + i : "");
+                case 1 -> document.put("field" + i, valid ? i : -i - 1);
+                default -> document.put("field" + i, valid ? "b" : "z");
+            }
+        }
+        return document.toString();
+    }
+
+    /**
+     * An object schema nested to the given depth, each level with a required child and a leaf
+     */
+    static String deepSchema(int depth) {
+        ObjectNode schema = MAPPER.createObjectNode();
+        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
+        ObjectNode level = schema;
+        for (int i = 0; i < depth; i++) {
+            level.put("type", "object");
+            ObjectNode props = level.putObject("properties");
+            props.putObject("name").put("type", "string");
+            level.putArray("required").add("name").add("child");
+            level = props.putObject("child");
+        }
+        level.put("type", "integer");
+        return schema.toString();
+    }
+
+    static String deepDocument(int depth, boolean valid) {
+        ObjectNode document = MAPPER.createObjectNode();
+        ObjectNode level = document;
+        for (int i = 0; i < depth; i++) {
+            level.put("name", "level" + i);
+            if (i == depth - 1) {
+                if (valid) {
+                    level.put("child", i);
+                } else {
+                    level.put("child", "not an integer");
+                }
+            } else {
+                level = level.putObject("child");
+            }
+        }
+        return document.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.jsonschemavalidationpoc.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import org.example.jsonschemavalidationpoc.dto.ValidationRequest;
+import org.example.jsonschemavalidationpoc.dto.ValidationResponse;
+import org.example.jsonschemavalidationpoc.service.JsonSchemaService;
+import org.example.jsonschemavalidationpoc.service.SchemaCompiler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of valid and invalid documents through JsonSchemaService, and the
+ * cost of compiling each schema from scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"user", "person", "wide", "deep"})
+    public String schema;
+
+    private ConfigurableApplicationContext context;
+    private JsonSchemaService jsonSchemaService;
+    private SchemaCompiler schemaCompiler;
+    private ValidationRequest validRequest;
+    private ValidationRequest invalidRequest;
+    private JsonNode schemaNode;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkFixtures.start();
+        jsonSchemaService = context.getBean(JsonSchemaService.class);
+        schemaCompiler = context.getBean(SchemaCompiler.class);
+
+        BenchmarkFixtures.Fixture fixture = BenchmarkFixtures.FIXTURES.get(schema);
+        validRequest = new ValidationRequest(fixture.type(), fixture.version(), fixture.validDocument());
+        invalidRequest = new ValidationRequest(fixture.type(), fixture.version(), fixture.invalidDocument());
+        schemaNode = context.getBean(ObjectMapper.class).readTree(fixture.schemaContent());
+
+        if (!jsonSchemaService.validateJson(validRequest).isValid()
+                || jsonSchemaService.validateJson(invalidRequest).isValid()) {
+            throw new IllegalStateException("Fixture documents for '" + schema + "' do not behave as expected");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ValidationResponse validateValid() {
+        return jsonSchemaService.validateJson(validRequest);
+    }
+
+    @Benchmark
+    public ValidationResponse validateInvalid() {
+        return jsonSchemaService.validateJson(invalidRequest);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonSchema compileSchema() {
+        JsonSchema compiled = schemaCompiler.compile(schemaNode);
+        compiled.initializeValidators();
+        return compiled;
+    }
+}
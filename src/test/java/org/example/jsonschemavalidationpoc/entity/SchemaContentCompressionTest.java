@@ -0,0 +1,132 @@
+package org.example.jsonschemavalidationpoc.entity;
+
+import org.example.jsonschemavalidationpoc.config.SchemaCompressionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SchemaContentCompression Unit Tests")
+class SchemaContentCompressionTest {
+
+    private SchemaCompressionProperties properties;
+    private SchemaContentCompression compression;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SchemaCompressionProperties();
+        properties.setMinSize(1_000);
+        compression = new SchemaContentCompression(properties);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CompressionCodec.class)
+    @DisplayName("Should store large content compressed and read it back unchanged")
+    void shouldCompressLargeContent(CompressionCodec codec) {
+        // Arrange
+        properties.setCodec(codec);
+        String text = largeSchema();
+        SchemaContentEntity content = new SchemaContentEntity("hash", text, null, null);
+
+        // Act
+        compression.beforeInsert(content);
+
+        // Assert
+        assertThat(content.getContent()).isNull();
+        assertThat(content.getCompression()).isEqualTo(codec);
+        assertThat(content.getCompressedContent().length).isLessThan(text.length() / 4);
+        assertThat(codec.decompress(content.getCompressedContent())).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("Should keep small content and content stored while disabled as plain text")
+    void shouldKeepSmallContentPlain() {
+        // Arrange
+        SchemaContentEntity small = new SchemaContentEntity("small", "{\"type\":\"object\"}", null, null);
+        SchemaContentEntity large = new SchemaContentEntity("large", largeSchema(), null, null);
+        properties.setEnabled(false);
+
+        // Act
+        compression.beforeInsert(small);
+        compression.beforeInsert(large);
+
+        // Assert
+        assertThat(small.isCompressed()).isFalse();
+        assertThat(large.isCompressed()).isFalse();
+        assertThat(compression.compress(large)).isTrue();
+        assertThat(compression.compress(large)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should decompress a schema's content only when the text is asked for, and only once")
+    void shouldDecompressOnDemand() {
+        // Arrange
+        String text = largeSchema();
+        SchemaContentEntity content = new SchemaContentEntity("hash", text, null, null);
+        compression.compress(content);
+        JsonSchemaEntity schema = new JsonSchemaEntity();
+
+        // Act
+        schema.attachContent(content);
+
+        // Assert
+        assertThat(schema.hasContent()).isTrue();
+        assertThat(schema.getCompressedContent()).isSameAs(content.getCompressedContent());
+        assertThat(schema.getSchemaContent()).isEqualTo(text).isSameAs(schema.getSchemaContent());
+    }
+
+    @Test
+    @DisplayName("Should compress the normalized and binary forms along with the text and read them back")
+    void shouldCompressAllForms() {
+        // Arrange
+        String text = largeSchema();
+        byte[] binary = text.getBytes(StandardCharsets.UTF_8);
+        SchemaContentEntity content = new SchemaContentEntity("hash", text, text, binary);
+        JsonSchemaEntity schema = new JsonSchemaEntity();
+
+        // Act
+        compression.beforeInsert(content);
+        schema.attachContent(content);
+
+        // Assert
+        assertThat(content.getNormalizedContent()).isNull();
+        assertThat(content.getBinaryContent()).isNull();
+        assertThat(content.getCompressedBinaryContent().length).isLessThan(binary.length / 4);
+        assertThat(content.readNormalizedContent()).isEqualTo(text);
+        assertThat(schema.getBinaryContent()).isEqualTo(binary);
+    }
+
+    @Test
+    @DisplayName("Should compress the remaining forms of a row whose text is already compressed")
+    void shouldMigratePartlyCompressedRows() {
+        // Arrange
+        String text = largeSchema();
+        SchemaContentEntity content = new SchemaContentEntity("hash", null, text, text.getBytes(StandardCharsets.UTF_8));
+        content.setCompression(CompressionCodec.GZIP);
+        content.setCompressedContent(CompressionCodec.GZIP.compress(text));
+
+        // Act
+        boolean migrated = compression.compress(content);
+
+        // Assert
+        assertThat(migrated).isTrue();
+        assertThat(content.getNormalizedContent()).isNull();
+        assertThat(CompressionCodec.GZIP.decompressBytes(content.getCompressedBinaryContent()))
+            .isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+        assertThat(compression.compress(content)).isFalse();
+    }
+
+    private String largeSchema() {
+        StringBuilder properties = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            properties.append(i == 0 ? "" : ",")
+                .append("\"field").append(i).append("\":{\"type\":\"string\",\"maxLength\":64}");
+        }
+        return "{\"type\":\"object\",\"properties\":{" + properties + "}}";
+    }
+}
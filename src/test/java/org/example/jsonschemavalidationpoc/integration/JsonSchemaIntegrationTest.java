@@ -2,8 +2,17 @@ package org.example.jsonschemavalidationpoc.integration;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
-import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.config.SchemaCompressionProperties;
+import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
 import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.example.jsonschemavalidationpoc.service.ArtifactCache;
+import org.example.jsonschemavalidationpoc.service.CompiledSchemaCache;
+import org.example.jsonschemavalidationpoc.service.ContentHash;
+import org.example.jsonschemavalidationpoc.service.JsonSchemaService;
+import org.example.jsonschemavalidationpoc.service.SchemaContentMigration;
+import org.example.jsonschemavalidationpoc.service.SchemaRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +21,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
+
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -26,10 +38,35 @@ class JsonSchemaIntegrationTest {
     @Autowired
     private JsonSchemaRepository repository;
 
+    @Autowired
+    private SchemaContentRepository contentRepository;
+
+    @Autowired
+    private JsonSchemaService jsonSchemaService;
+
+    @Autowired
+    private CompiledSchemaCache compiledSchemaCache;
+
+    @Autowired
+    private ArtifactCache artifactCache;
+
+    @Autowired
+    private SchemaRegistry schemaRegistry;
+
+    @Autowired
+    private SchemaCompressionProperties compressionProperties;
+
+    @Autowired
+    private SchemaContentMigration schemaContentMigration;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
         repository.deleteAll();
+        contentRepository.deleteAll();
+        compiledSchemaCache.invalidateAll();
+        artifactCache.invalidateAll();
+        schemaRegistry.reload();
     }
 
     @Test
@@ -81,11 +118,8 @@ class JsonSchemaIntegrationTest {
     @DisplayName("Should reject duplicate schema type and version")
     void shouldRejectDuplicateSchema() {
         // Save first schema
-        JsonSchemaEntity entity = new JsonSchemaEntity();
-        entity.setType("user");
-        entity.setVersion("1.0");
-        entity.setSchemaContent("{\"type\":\"object\"}");
-        repository.save(entity);
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"type\":\"object\"}"));
 
         // Try to save duplicate
         String duplicateRequest = """
@@ -110,11 +144,8 @@ class JsonSchemaIntegrationTest {
     @DisplayName("Should validate JSON successfully against schema")
     void shouldValidateJsonSuccessfully() {
         // First, save a schema
-        JsonSchemaEntity entity = new JsonSchemaEntity();
-        entity.setType("user");
-        entity.setVersion("1.0");
-        entity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"age\":{\"type\":\"integer\",\"minimum\":0},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}");
-        repository.save(entity);
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"age\":{\"type\":\"integer\",\"minimum\":0},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}"));
 
         // Validate valid JSON
         String validationRequest = """
@@ -136,15 +167,40 @@ class JsonSchemaIntegrationTest {
             .body("errors", empty());
     }
 
+    @Test
+    @DisplayName("Should validate against schemas referenced from other stored schemas")
+    void shouldValidateWithStoredReferences() {
+        jsonSchemaService.saveSchema(new SchemaRequest("address", "1.0",
+            "{\"type\":\"object\",\"required\":[\"city\"],\"properties\":{\"city\":{\"type\":\"string\"}}}"));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"type\":\"object\",\"properties\":{\"address\":{\"$ref\":\"schema://address/1.0\"}}}"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"address\":{\"city\":\"Porto Alegre\"}}")
+        .when()
+            .post("/api/schemas/user/1.0/validate")
+        .then()
+            .statusCode(200)
+            .body("valid", equalTo(true));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"address\":{}}")
+        .when()
+            .post("/api/schemas/user/1.0/validate")
+        .then()
+            .statusCode(200)
+            .body("valid", equalTo(false))
+            .body("errors[0]", containsString("city"));
+    }
+
     @Test
     @DisplayName("Should return validation errors for invalid JSON")
     void shouldReturnValidationErrors() {
         // First, save a schema
-        JsonSchemaEntity entity = new JsonSchemaEntity();
-        entity.setType("user");
-        entity.setVersion("1.0");
-        entity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}");
-        repository.save(entity);
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}"));
 
         // Validate invalid JSON (missing required field)
         String validationRequest = """
@@ -188,15 +244,65 @@ class JsonSchemaIntegrationTest {
             .body("errors[0]", containsString("Schema not found"));
     }
 
+    @Test
+    @DisplayName("Should validate a raw JSON document posted as the request body")
+    void shouldValidateRawDocument() {
+        // First, save a schema
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .pathParam("type", "user")
+            .pathParam("version", "1.0")
+            .body("{\"name\":\"John Doe\"}")
+        .when()
+            .post("/api/schemas/{type}/{version}/validate")
+        .then()
+            .statusCode(200)
+            .body("valid", equalTo(false))
+            .body("errors[0]", containsString("email"));
+    }
+
+    @Test
+    @DisplayName("Should stream one validation result per NDJSON record")
+    void shouldValidateNdjsonStream() {
+        // First, save a schema
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}"));
+
+        String ndjson = """
+            {"name":"John Doe","email":"john@example.com"}
+            {"name":"Jane Doe"}
+            {"name":"Max","email":"max@example.com"}
+            """;
+
+        String body = given()
+            .contentType("application/x-ndjson")
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+            .body(ndjson.getBytes(StandardCharsets.UTF_8))
+        .when()
+            .post("/api/validate/stream")
+        .then()
+            .statusCode(200)
+            .contentType("application/x-ndjson")
+            .extract().asString();
+
+        String[] lines = body.trim().split("\n");
+        assertThat(lines.length, equalTo(3));
+        assertThat(lines[0], containsString("\"valid\":true"));
+        assertThat(lines[1], containsString("\"valid\":false"));
+        assertThat(lines[1], containsString("email"));
+        assertThat(lines[2], containsString("\"record\":3"));
+    }
+
     @Test
     @DisplayName("Should generate POJO JAR file successfully")
     void shouldGeneratePojoJar() {
         // First, save a schema
-        JsonSchemaEntity entity = new JsonSchemaEntity();
-        entity.setType("user");
-        entity.setVersion("1.0");
-        entity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}");
-        repository.save(entity);
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}"));
 
         given()
             .queryParam("type", "user")
@@ -209,6 +315,155 @@ class JsonSchemaIntegrationTest {
             .header("Content-Disposition", containsString("user-1.0-pojos.jar"));
     }
 
+    @Test
+    @DisplayName("Should serve the same JAR whether it is built or served from the cache")
+    void shouldStreamJarDownload() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}"));
+
+        byte[] built = given()
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(200)
+            .header("Content-Length", notNullValue())
+            .extract().asByteArray();
+
+        byte[] cached = given()
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(200)
+            .header("Content-Length", notNullValue())
+            .extract().asByteArray();
+
+        assertThat(cached, equalTo(built));
+        assertThat(new String(built, 0, 2, StandardCharsets.US_ASCII), equalTo("PK"));
+    }
+
+    @Test
+    @DisplayName("Should answer 500 instead of a truncated JAR when generation fails")
+    void shouldReportJarGenerationFailure() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"type\":\"object\",\"properties\":{\"address\":{\"$ref\":\"#/definitions/missing\"}}}"));
+
+        given()
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(500);
+    }
+
+    @Test
+    @DisplayName("Should answer a JAR revalidation with 304 Not Modified")
+    void shouldAnswerJarRevalidationWithNotModified() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}"));
+
+        String etag = given()
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(200)
+            .header("ETag", startsWith("\""))
+            .extract().header("ETag");
+
+        given()
+            .queryParam("type", "user")
+            .queryParam("version", "latest")
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag));
+    }
+
+    @Test
+    @DisplayName("Should generate a JAR of compiled classes on request")
+    void shouldGenerateCompiledPojoJar() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}"));
+
+        String sourcesETag = given()
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(200)
+            .extract().header("ETag");
+
+        given()
+            .queryParam("type", "user")
+            .queryParam("version", "1.0")
+            .queryParam("compiled", true)
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(200)
+            .contentType("application/octet-stream")
+            .header("Content-Disposition", containsString("user-1.0-pojos-classes.jar"))
+            .header("ETag", not(equalTo(sourcesETag)));
+    }
+
+    @Test
+    @DisplayName("Should run jar and Avro generation as jobs and serve their results")
+    void shouldRunArtifactJobs() throws InterruptedException {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}"));
+
+        String avroJob = given()
+            .contentType(ContentType.JSON)
+            .body("{\"type\": \"user\", \"version\": \"latest\", \"kind\": \"AVRO\", \"priority\": \"HIGH\"}")
+        .when()
+            .post("/api/jobs")
+        .then()
+            .statusCode(202)
+            .header("Location", containsString("/api/jobs/"))
+            .body("version", equalTo("1.0"))
+            .body("status", anyOf(equalTo("QUEUED"), equalTo("RUNNING"), equalTo("SUCCEEDED")))
+            .extract().path("id");
+        String jarJob = given()
+            .contentType(ContentType.JSON)
+            .body("{\"type\": \"user\", \"version\": \"1.0\", \"kind\": \"JAR\"}")
+        .when()
+            .post("/api/jobs")
+        .then()
+            .statusCode(202)
+            .extract().path("id");
+
+        awaitJob(avroJob);
+        awaitJob(jarJob);
+
+        given()
+        .when()
+            .get("/api/jobs/" + avroJob + "/result")
+        .then()
+            .statusCode(200)
+            .body("avroSchema", containsString("\"record\""));
+        given()
+        .when()
+            .get("/api/jobs/" + jarJob + "/result")
+        .then()
+            .statusCode(200)
+            .contentType("application/octet-stream")
+            .header("Content-Disposition", containsString("user-1.0-pojos.jar"));
+        given()
+        .when()
+            .get("/api/jobs/unknown")
+        .then()
+            .statusCode(404);
+    }
+
     @Test
     @DisplayName("Should return 400 when generating JAR for non-existent schema")
     void shouldReturn400ForNonExistentSchemaJar() {
@@ -225,11 +480,8 @@ class JsonSchemaIntegrationTest {
     @DisplayName("Should convert JSON schema to Avro successfully")
     void shouldConvertToAvro() {
         // First, save a schema
-        JsonSchemaEntity entity = new JsonSchemaEntity();
-        entity.setType("user");
-        entity.setVersion("1.0");
-        entity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"age\":{\"type\":\"integer\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}");
-        repository.save(entity);
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"age\":{\"type\":\"integer\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}"));
 
         given()
             .pathParam("type", "user")
@@ -258,15 +510,131 @@ class JsonSchemaIntegrationTest {
             .body(containsString("Schema not found"));
     }
 
+    @Test
+    @DisplayName("Should store large schemas compressed and serve them unchanged")
+    void shouldStoreLargeSchemasCompressed() {
+        String schema = largeSchema("name");
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", schema));
+        schemaRegistry.reload();
+
+        SchemaContentEntity stored = contentRepository.findById(ContentHash.of(schema)).orElseThrow();
+        assertThat(stored.isCompressed(), is(true));
+        assertThat(stored.getContent(), nullValue());
+
+        given()
+        .when()
+            .get("/api/schemas/user/1.0")
+        .then()
+            .statusCode(200)
+            .body("schemaContent", equalTo(schema));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"name0\":42}")
+        .when()
+            .post("/api/schemas/user/1.0/validate")
+        .then()
+            .statusCode(200)
+            .body("valid", equalTo(false));
+    }
+
+    @Test
+    @DisplayName("Should compress schemas stored before compression was enabled")
+    void shouldMigrateStoredSchemasToCompressed() {
+        String schema = largeSchema("title");
+        compressionProperties.setEnabled(false);
+        try {
+            jsonSchemaService.saveSchema(new SchemaRequest("order", "1.0", schema));
+        } finally {
+            compressionProperties.setEnabled(true);
+        }
+        assertThat(contentRepository.findById(ContentHash.of(schema)).orElseThrow().isCompressed(), is(false));
+
+        assertThat(schemaContentMigration.compressStoredContent(), is(1));
+
+        SchemaContentEntity migrated = contentRepository.findById(ContentHash.of(schema)).orElseThrow();
+        assertThat(migrated.isCompressed(), is(true));
+        assertThat(migrated.getCompression().decompress(migrated.getCompressedContent()), equalTo(schema));
+        assertThat(schemaContentMigration.compressStoredContent(), is(0));
+    }
+
+    @Test
+    @DisplayName("Should delete a schema version")
+    void shouldDeleteSchema() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", "{\"type\":\"object\"}"));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.1", "{\"type\":\"object\"}"));
+
+        given()
+        .when()
+            .delete("/api/schemas/user/1.1")
+        .then()
+            .statusCode(204);
+
+        given()
+        .when()
+            .get("/api/schemas/user/1.1")
+        .then()
+            .statusCode(400)
+            .body(containsString("Schema not found"));
+
+        given()
+            .pathParam("type", "user")
+            .pathParam("version", "latest")
+        .when()
+            .get("/api/schemas/{type}/{version}/avro")
+        .then()
+            .statusCode(200)
+            .body("version", equalTo("1.0"));
+
+        given()
+        .when()
+            .delete("/api/schemas/user/1.1")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Should resolve latest and version ranges to the highest matching version")
+    void shouldResolveVersionSelectors() {
+        String schema = "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}";
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.2", schema));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.10", schema));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "2.0.0-rc.1", schema));
+
+        given()
+            .pathParam("type", "user")
+            .pathParam("version", "latest")
+        .when()
+            .get("/api/schemas/{type}/{version}/avro")
+        .then()
+            .statusCode(200)
+            .body("version", equalTo("1.10"));
+
+        given()
+            .queryParam("type", "user")
+            .queryParam("version", "~1.2")
+        .when()
+            .get("/api/generate-jar")
+        .then()
+            .statusCode(200)
+            .header("Content-Disposition", containsString("user-1.2-pojos.jar"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(new SchemaRequest("user", "latest", schema))
+        .when()
+            .post("/api/schemas")
+        .then()
+            .statusCode(400)
+            .body(containsString("reserved"));
+    }
+
     @Test
     @DisplayName("Should handle nested objects in Avro conversion")
     void shouldConvertNestedObjectsToAvro() {
         // Save schema with nested objects
-        JsonSchemaEntity entity = new JsonSchemaEntity();
-        entity.setType("person");
-        entity.setVersion("2.0");
-        entity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"address\":{\"type\":\"object\",\"properties\":{\"street\":{\"type\":\"string\"},\"city\":{\"type\":\"string\"}},\"required\":[\"street\",\"city\"]}},\"required\":[\"name\",\"address\"]}");
-        repository.save(entity);
+        jsonSchemaService.saveSchema(new SchemaRequest("person", "2.0", 
+            "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"address\":{\"type\":\"object\",\"properties\":{\"street\":{\"type\":\"string\"},\"city\":{\"type\":\"string\"}},\"required\":[\"street\",\"city\"]}},\"required\":[\"name\",\"address\"]}"));
 
         given()
             .pathParam("type", "person")
@@ -278,4 +646,102 @@ class JsonSchemaIntegrationTest {
             .body("avroSchema", containsString("\"type\" : \"record\""))
             .body("avroSchema", containsString("\"name\" : \"address\""));
     }
+
+    @Test
+    @DisplayName("Should import schemas in bulk and report each item")
+    void shouldImportSchemasInBulk() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", "{\"type\":\"object\"}"));
+
+        String bulkRequest = """
+            [
+                {"type": "user", "version": "1.0", "schemaContent": "{\\"type\\":\\"object\\"}"},
+                {"type": "user", "version": "1.1", "schemaContent": "{\\"type\\":\\"object\\"}"},
+                {"type": "order", "version": "1.0", "schemaContent": "not json"},
+                {"type": "order", "version": "2.0", "schemaContent": "{\\"type\\":\\"array\\"}"}
+            ]
+            """;
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(bulkRequest)
+        .when()
+            .post("/api/schemas/bulk")
+        .then()
+            .statusCode(200)
+            .body("total", equalTo(4))
+            .body("created", equalTo(2))
+            .body("results.status", contains("DUPLICATE", "CREATED", "INVALID", "CREATED"))
+            .body("results[1].id", notNullValue());
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"type\": \"order\", \"version\": \"2.0\", \"jsonData\": \"[]\"}")
+        .when()
+            .post("/api/validate")
+        .then()
+            .statusCode(200)
+            .body("valid", equalTo(true));
+    }
+
+    @Test
+    @DisplayName("Should list schema summaries page by page and filter by type")
+    void shouldListSchemasByPage() {
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", "{\"type\":\"object\"}"));
+        jsonSchemaService.saveSchema(new SchemaRequest("order", "1.0", "{\"type\":\"object\"}"));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.1", "{\"type\":\"object\",\"required\":[\"id\"]}"));
+
+        Integer cursor = given()
+            .queryParam("type", "user")
+            .queryParam("limit", 1)
+        .when()
+            .get("/api/schemas")
+        .then()
+            .statusCode(200)
+            .body("schemas", hasSize(1))
+            .body("schemas[0].version", equalTo("1.0"))
+            .body("schemas[0].contentSize", equalTo(17))
+            .body("schemas[0].contentHash", notNullValue())
+            .body("schemas[0].schemaContent", nullValue())
+            .body("nextCursor", notNullValue())
+            .extract().path("nextCursor");
+
+        given()
+            .queryParam("type", "user")
+            .queryParam("after", cursor)
+            .queryParam("limit", 1)
+        .when()
+            .get("/api/schemas")
+        .then()
+            .statusCode(200)
+            .body("schemas.version", contains("1.1"));
+
+        given()
+        .when()
+            .get("/api/schemas")
+        .then()
+            .statusCode(200)
+            .body("schemas", hasSize(3))
+            .body("nextCursor", nullValue());
+    }
+
+    private String largeSchema(String prefix) {
+        StringBuilder properties = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            properties.append(i == 0 ? "" : ",")
+                .append("\"").append(prefix).append(i).append("\":{\"type\":\"string\",\"maxLength\":64}");
+        }
+        return "{\"type\":\"object\",\"properties\":{" + properties + "}}";
+    }
+
+    private void awaitJob(String id) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String status = given().when().get("/api/jobs/" + id).then().statusCode(200).extract().path("status");
+            if (status.equals("SUCCEEDED")) {
+                return;
+            }
+            assertThat(status, not(equalTo("FAILED")));
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
 }
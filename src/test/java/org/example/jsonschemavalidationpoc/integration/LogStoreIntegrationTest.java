@@ -0,0 +1,146 @@
+package org.example.jsonschemavalidationpoc.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.example.jsonschemavalidationpoc.service.CompiledSchemaCache;
+import org.example.jsonschemavalidationpoc.service.SchemaRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "log-store"})
+@DisplayName("Schema Log Store Integration Tests")
+class LogStoreIntegrationTest {
+
+    private static final Path DIRECTORY = createDirectory();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JsonSchemaRepository repository;
+
+    @Autowired
+    private SchemaContentRepository contentRepository;
+
+    @Autowired
+    private CompiledSchemaCache compiledSchemaCache;
+
+    @Autowired
+    private SchemaRegistry schemaRegistry;
+
+    @DynamicPropertySource
+    static void logStoreProperties(DynamicPropertyRegistry registry) {
+        registry.add("schema.log-store.directory", DIRECTORY::toString);
+    }
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        repository.deleteAll();
+        contentRepository.deleteAll();
+        compiledSchemaCache.invalidateAll();
+        schemaRegistry.reload();
+    }
+
+    @Test
+    @DisplayName("Should start without a database")
+    void shouldStartWithoutDatabase() {
+        assertThat(context.getBeanNamesForType(DataSource.class), emptyArray());
+        assertThat(Files.exists(DIRECTORY.resolve("segment-0000000001.log")), is(true));
+    }
+
+    @Test
+    @DisplayName("Should save, validate, list and delete schemas in the log")
+    void shouldServeSchemasFromLog() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(new SchemaRequest("user", "1.0", "{\"type\":\"object\",\"required\":[\"name\"]}"))
+        .when()
+            .post("/api/schemas")
+        .then()
+            .statusCode(201)
+            .body("id", notNullValue());
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"type\": \"user\", \"version\": \"latest\", \"jsonData\": \"{}\"}")
+        .when()
+            .post("/api/validate")
+        .then()
+            .statusCode(200)
+            .body("valid", equalTo(false));
+
+        given()
+        .when()
+            .get("/api/schemas")
+        .then()
+            .statusCode(200)
+            .body("schemas.version", contains("1.0"));
+
+        given()
+        .when()
+            .delete("/api/schemas/user/1.0")
+        .then()
+            .statusCode(204);
+
+        assertThat(repository.existsByTypeAndVersion("user", "1.0"), is(false));
+    }
+
+    @Test
+    @DisplayName("Should import schemas in bulk into the log")
+    void shouldImportSchemasInBulk() {
+        String bulkRequest = """
+            [
+                {"type": "order", "version": "1.0", "schemaContent": "{\\"type\\":\\"array\\"}"},
+                {"type": "order", "version": "1.1", "schemaContent": "{\\"type\\":\\"array\\"}"},
+                {"type": "order", "version": "1.1", "schemaContent": "{\\"type\\":\\"array\\"}"}
+            ]
+            """;
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(bulkRequest)
+        .when()
+            .post("/api/schemas/bulk")
+        .then()
+            .statusCode(200)
+            .body("created", equalTo(2))
+            .body("results.status", contains("CREATED", "CREATED", "DUPLICATE"));
+
+        schemaRegistry.reload();
+        assertThat(schemaRegistry.find("order", "1.1").isPresent(), is(true));
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("schema-log");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.jsonschemavalidationpoc.load;
+
+import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.service.CompiledSchemaCache;
+import org.example.jsonschemavalidationpoc.service.JsonSchemaService;
+import org.example.jsonschemavalidationpoc.service.SchemaRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Drives many concurrent clients against a running server and reports throughput.
+ * A small share of the requests download POJO jars, which are slow, so that
+ * cheap validations have to compete with them for request threads.
+ * Subclasses choose the thread model; run with {@code ./mvnw test -Pload-test}.
+ * Concurrency can be tuned with {@code -Dload.concurrency} and {@code -Dload.requests}.
+ */
+@Tag("load")
+abstract class AbstractThreadModelLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 500);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests", 40);
+    private static final int JAR_EVERY = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JsonSchemaRepository repository;
+
+    @Autowired
+    private CompiledSchemaCache compiledSchemaCache;
+
+    @Autowired
+    private SchemaRegistry schemaRegistry;
+
+    @Autowired
+    private JsonSchemaService jsonSchemaService;
+
+    private String validDocument;
+
+    protected abstract String threadModel();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository.deleteAll();
+        compiledSchemaCache.invalidateAll();
+        schemaRegistry.reload();
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            Files.readString(Path.of("examples/user-schema.json"))));
+        validDocument = Files.readString(Path.of("examples/valid-user.json"));
+    }
+
+    @Test
+    void shouldSustainHighConcurrency() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        List<Long> validationLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CONCURRENCY; c++) {
+                int clientId = c;
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        boolean jar = (clientId * REQUESTS_PER_CLIENT + r) % JAR_EVERY == 0;
+                        long requestStarted = System.nanoTime();
+                        int status = jar ? downloadJar(client) : validate(client);
+                        if (!jar) {
+                            validationLatencies.add(System.nanoTime() - requestStarted);
+                        }
+                        if (status != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        List<Long> sorted = new ArrayList<>(validationLatencies);
+        Collections.sort(sorted);
+        int total = CONCURRENCY * REQUESTS_PER_CLIENT;
+        System.out.printf("[%s] %d clients, %d requests in %.2fs: %.0f req/s, validation p50=%.1fms p99=%.1fms%n",
+            threadModel(), CONCURRENCY, total, seconds, total / seconds,
+            percentile(sorted, 0.50) / 1_000_000.0, percentile(sorted, 0.99) / 1_000_000.0);
+
+        assertThat(failures.get()).isZero();
+    }
+
+    private int validate(HttpClient client) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/schemas/user/1.0/validate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(validDocument))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int downloadJar(HttpClient client) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/generate-jar?type=user&version=1.0"))
+            .GET()
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1));
+    }
+}
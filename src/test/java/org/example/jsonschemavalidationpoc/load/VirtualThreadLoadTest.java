@@ -0,0 +1,17 @@
+package org.example.jsonschemavalidationpoc.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("Load Test - Virtual Threads")
+class VirtualThreadLoadTest extends AbstractThreadModelLoadTest {
+
+    @Override
+    protected String threadModel() {
+        return "virtual threads";
+    }
+}
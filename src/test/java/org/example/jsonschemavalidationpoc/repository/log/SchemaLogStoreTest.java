@@ -0,0 +1,193 @@
+package org.example.jsonschemavalidationpoc.repository.log;
+
+import org.example.jsonschemavalidationpoc.config.SchemaCompressionProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaLogStoreProperties;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentCompression;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.service.ContentHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SchemaLogStore Unit Tests")
+class SchemaLogStoreTest {
+
+    private static final String CONTENT = "{\"type\":\"object\"}";
+
+    @TempDir
+    Path directory;
+
+    private SchemaLogStoreProperties properties;
+    private SchemaContentCompression compression;
+    private SchemaLogStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new SchemaLogStoreProperties();
+        properties.setDirectory(directory);
+        compression = new SchemaContentCompression(new SchemaCompressionProperties());
+        store = new SchemaLogStore(properties, compression);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("Should find saved and deleted schemas as they were after reopening")
+    void shouldReplayAfterReopening() throws IOException {
+        // Arrange
+        save("user", "1.0", CONTENT);
+        JsonSchemaEntity deleted = save("user", "2.0", CONTENT);
+        store.deleteSchema(deleted.getId());
+
+        // Act
+        reopen();
+
+        // Assert
+        JsonSchemaEntity user = store.findSchema("user", "1.0").orElseThrow();
+        assertThat(user.getContentHash()).isEqualTo(ContentHash.of(CONTENT));
+        assertThat(store.findContent(user.getContentHash()).orElseThrow().getContent()).isEqualTo(CONTENT);
+        assertThat(store.containsSchema("user", "2.0")).isFalse();
+        assertThat(save("user", "3.0", CONTENT).getId()).isGreaterThan(deleted.getId());
+    }
+
+    @Test
+    @DisplayName("Should seal full segments with an index and read them back after reopening")
+    void shouldRollSegments() throws IOException {
+        // Arrange
+        store.destroy();
+        properties.setSegmentSize(DataSize.ofBytes(1_024));
+        store = new SchemaLogStore(properties, compression);
+        for (int i = 0; i < 50; i++) {
+            save("user", "1." + i, "{\"title\":\"v" + i + "\"}");
+        }
+
+        // Act
+        reopen();
+
+        // Assert
+        assertThat(files(".log")).hasSizeGreaterThan(2);
+        assertThat(files(".idx")).hasSize(files(".log").size() - 1);
+        assertThat(store.findAllSchemas()).hasSize(50);
+        assertThat(store.findContent(ContentHash.of("{\"title\":\"v7\"}")).orElseThrow().getContent())
+            .isEqualTo("{\"title\":\"v7\"}");
+        List<SchemaSummary> page = store.listSchemas("user", 10, 5);
+        assertThat(page).extracting(SchemaSummary::getId).containsExactly(11L, 12L, 13L, 14L, 15L);
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn write at the end of the log and keep appending after it")
+    void shouldDiscardTornWrite() throws IOException {
+        // Arrange
+        save("user", "1.0", CONTENT);
+        store.destroy();
+        Path segment = files(".log").get(0);
+        Files.write(segment, new byte[]{0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        // Act
+        store = new SchemaLogStore(properties, compression);
+        save("user", "2.0", CONTENT);
+        reopen();
+
+        // Assert
+        assertThat(store.findAllSchemas()).extracting(JsonSchemaEntity::getVersion).containsExactly("1.0", "2.0");
+    }
+
+    @Test
+    @DisplayName("Should reject a version that is already stored")
+    void shouldRejectDuplicates() {
+        // Arrange
+        save("user", "1.0", CONTENT);
+
+        // Act & Assert
+        assertThatThrownBy(() -> save("user", "1.0", CONTENT))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(store.findAllSchemas()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should store every row written concurrently with its own id")
+    void shouldAcceptConcurrentWriters() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<JsonSchemaEntity>> saves = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 400; i++) {
+            String version = "1." + i;
+            saves.add(executor.submit(() -> save("user", version, CONTENT)));
+        }
+        for (Future<JsonSchemaEntity> saved : saves) {
+            saved.get();
+        }
+        executor.shutdown();
+        reopen();
+
+        // Assert
+        assertThat(store.findAllSchemas()).hasSize(400)
+            .extracting(JsonSchemaEntity::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should store large bodies compressed")
+    void shouldCompressLargeBodies() throws IOException {
+        // Arrange
+        String large = "{\"description\":\"" + "x".repeat(20_000) + "\"}";
+
+        // Act
+        save("large", "1.0", large);
+        reopen();
+
+        // Assert
+        SchemaContentEntity content = store.findContent(ContentHash.of(large)).orElseThrow();
+        assertThat(content.isCompressed()).isTrue();
+        assertThat(content.getCompression().decompress(content.getCompressedContent())).isEqualTo(large);
+        assertThat(content.readNormalizedContent()).isEqualTo(large);
+        assertThat(content.getCompression().decompressBytes(content.getCompressedBinaryContent()))
+            .isEqualTo(large.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private JsonSchemaEntity save(String type, String version, String text) {
+        SchemaContentEntity content = new SchemaContentEntity(ContentHash.of(text), text, text,
+            text.getBytes(StandardCharsets.UTF_8));
+        JsonSchemaEntity schema = new JsonSchemaEntity();
+        schema.setType(type);
+        schema.setVersion(version);
+        schema.setContentHash(content.getHash());
+        schema.setContentSize(text.length());
+        return store.insertAll(List.of(content), List.of(schema)).get(0);
+    }
+
+    private void reopen() throws IOException {
+        store.destroy();
+        store = new SchemaLogStore(properties, compression);
+    }
+
+    private List<Path> files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+}
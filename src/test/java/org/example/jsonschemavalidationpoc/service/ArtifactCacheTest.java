@@ -0,0 +1,148 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ArtifactCache Unit Tests")
+class ArtifactCacheTest {
+
+    private static final String HASH = ContentHash.of("{\"type\":\"object\"}");
+
+    private SchemaCacheProperties properties;
+    private ArtifactCache artifactCache;
+    private AtomicInteger generated;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SchemaCacheProperties();
+        artifactCache = new ArtifactCache(properties);
+        generated = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should stream a generated jar and serve the next request from the cache")
+    void shouldStreamAndKeepCopy() throws IOException {
+        // Arrange
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        // Act
+        artifactCache.writePojoJar(HASH, "User", first, generator("jar bytes"));
+        artifactCache.writePojoJar(HASH, "User", second, generator("other bytes"));
+
+        // Assert
+        assertThat(first.toString(StandardCharsets.UTF_8)).isEqualTo("jar bytes");
+        assertThat(second.toString(StandardCharsets.UTF_8)).isEqualTo("jar bytes");
+        assertThat(generated).hasValue(1);
+        assertThat(artifactCache.pojoJar(HASH, "User", () -> fail("should be cached"))).asString()
+            .isEqualTo("jar bytes");
+    }
+
+    @Test
+    @DisplayName("Should stream jars above the entry size limit without caching them")
+    void shouldNotKeepOversizedJars() throws IOException {
+        // Arrange
+        properties.setArtifactMaximumEntrySize(4);
+        artifactCache = new ArtifactCache(properties);
+
+        // Act
+        artifactCache.writePojoClassesJar(HASH, "User", new ByteArrayOutputStream(), generator("jar bytes"));
+        artifactCache.writePojoClassesJar(HASH, "User", new ByteArrayOutputStream(), generator("jar bytes"));
+
+        // Assert
+        assertThat(generated).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache a jar whose generation failed")
+    void shouldNotKeepFailedJars() throws IOException {
+        // Arrange
+        Consumer<OutputStream> failing = out -> {
+            write(out, "partial");
+            throw new IllegalStateException("generation failed");
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> artifactCache.writePojoJar(HASH, "User", new ByteArrayOutputStream(), failing))
+            .hasMessage("generation failed");
+        ByteArrayOutputStream retried = new ByteArrayOutputStream();
+        artifactCache.writePojoJar(HASH, "User", retried, generator("jar bytes"));
+        assertThat(retried.toString(StandardCharsets.UTF_8)).isEqualTo("jar bytes");
+    }
+
+    @Test
+    @DisplayName("Should build a jar in memory before serving it and keep it for the next request")
+    void shouldBufferJar() {
+        // Act
+        Optional<byte[]> built = artifactCache.bufferPojoJar(HASH, "User", generator("jar bytes"));
+        Optional<byte[]> cached = artifactCache.bufferPojoJar(HASH, "User", generator("other bytes"));
+
+        // Assert
+        assertThat(built).hasValueSatisfying(bytes -> assertThat(bytes).asString().isEqualTo("jar bytes"));
+        assertThat(cached.orElseThrow()).isSameAs(built.orElseThrow());
+        assertThat(generated).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should stop buffering a jar once it exceeds the entry size limit")
+    void shouldNotBufferOversizedJars() {
+        // Arrange
+        properties.setArtifactMaximumEntrySize(4);
+        artifactCache = new ArtifactCache(properties);
+        AtomicInteger chunks = new AtomicInteger();
+        Consumer<OutputStream> chunked = out -> {
+            for (int i = 0; i < 10; i++) {
+                write(out, "jar ");
+                chunks.incrementAndGet();
+            }
+        };
+
+        // Act
+        Optional<byte[]> built = artifactCache.bufferPojoClassesJar(HASH, "User", chunked);
+
+        // Assert
+        assertThat(built).isEmpty();
+        assertThat(chunks).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should pass generation failures to the caller when buffering")
+    void shouldPropagateBufferingFailures() {
+        // Arrange
+        Consumer<OutputStream> failing = out -> {
+            throw new IllegalStateException("generation failed");
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> artifactCache.bufferPojoJar(HASH, "User", failing))
+            .hasMessage("generation failed");
+    }
+
+    private Consumer<OutputStream> generator(String content) {
+        return out -> {
+            generated.incrementAndGet();
+            write(out, content);
+        };
+    }
+
+    private static void write(OutputStream out, String content) {
+        try (out) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
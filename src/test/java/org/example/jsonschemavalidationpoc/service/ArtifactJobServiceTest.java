@@ -0,0 +1,230 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.example.jsonschemavalidationpoc.config.ArtifactJobProperties;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobRequest;
+import org.example.jsonschemavalidationpoc.dto.ArtifactJobResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArtifactJobService Unit Tests")
+class ArtifactJobServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private JsonSchemaService jsonSchemaService;
+
+    @Mock
+    private Clock clock;
+
+    private ArtifactJobProperties properties;
+    private ThreadPoolExecutor executor;
+    private ArtifactJobService artifactJobService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArtifactJobProperties();
+        properties.setWorkers(1);
+        properties.setQueueCapacity(3);
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArtifactJobQueue(properties.getQueueCapacity()));
+        artifactJobService = new ArtifactJobService(jsonSchemaService, executor, properties, clock);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(jsonSchemaService.resolveKey(anyString(), anyString()))
+            .thenAnswer(invocation -> new SchemaKey(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should generate the artifact on the job executor and serve the result the job kept")
+    void shouldRunSubmittedJob() throws InterruptedException {
+        // Arrange
+        when(jsonSchemaService.getAvroSchema("user", "1.0")).thenReturn("{\"type\":\"record\"}");
+
+        // Act
+        ArtifactJobResponse submitted = artifactJobService.submit(
+            new ArtifactJobRequest("user", "1.0", ArtifactJobRequest.Kind.AVRO, null));
+        awaitIdle();
+        ArtifactJob job = artifactJobService.findJob(submitted.getId()).orElseThrow();
+        Object result = artifactJobService.getResult(job);
+
+        // Assert
+        assertThat(submitted.getPriority()).isEqualTo(ArtifactJobRequest.Priority.NORMAL);
+        assertThat(job.getStatus()).isEqualTo(ArtifactJobResponse.Status.SUCCEEDED);
+        assertThat(job.getFinishedAt()).isEqualTo(NOW);
+        assertThat(result).isEqualTo("{\"type\":\"record\"}");
+        verify(jsonSchemaService, times(1)).getAvroSchema("user", "1.0");
+    }
+
+    @Test
+    @DisplayName("Should start queued jobs by priority and then by submission order")
+    void shouldRunHigherPriorityFirst() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> started = new CopyOnWriteArrayList<>();
+        when(jsonSchemaService.generatePojoJar(anyString(), anyString())).thenAnswer(invocation -> {
+            String type = invocation.getArgument(0);
+            started.add(type);
+            if (type.equals("blocker")) {
+                release.await();
+            }
+            return new byte[0];
+        });
+        artifactJobService.submit(job("blocker", ArtifactJobRequest.Priority.NORMAL));
+        while (started.isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        artifactJobService.submit(job("low", ArtifactJobRequest.Priority.LOW));
+        artifactJobService.submit(job("normal", ArtifactJobRequest.Priority.NORMAL));
+        artifactJobService.submit(job("high", ArtifactJobRequest.Priority.HIGH));
+        release.countDown();
+        awaitIdle();
+
+        // Assert
+        assertThat(started).containsExactly("blocker", "high", "normal", "low");
+    }
+
+    @Test
+    @DisplayName("Should reject jobs once the queue is full and forget them")
+    void shouldRejectWhenQueueFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jsonSchemaService.generatePojoJar(anyString(), anyString())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return new byte[0];
+        });
+        artifactJobService.submit(job("running", ArtifactJobRequest.Priority.NORMAL));
+        running.await();
+        for (int i = 0; i < properties.getQueueCapacity(); i++) {
+            artifactJobService.submit(job("queued", ArtifactJobRequest.Priority.NORMAL));
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> artifactJobService.submit(job("rejected", ArtifactJobRequest.Priority.HIGH)))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getQueue()).hasSize(properties.getQueueCapacity());
+        release.countDown();
+        awaitIdle();
+        assertThat(executor.getCompletedTaskCount()).isEqualTo(1 + properties.getQueueCapacity());
+    }
+
+    @Test
+    @DisplayName("Should record a failed generation on the job")
+    void shouldRecordFailure() throws InterruptedException {
+        // Arrange
+        when(jsonSchemaService.generatePojoClassesJar("user", "1.0"))
+            .thenThrow(new IllegalStateException("Generated sources did not compile"));
+
+        // Act
+        ArtifactJobResponse submitted = artifactJobService.submit(
+            new ArtifactJobRequest("user", "1.0", ArtifactJobRequest.Kind.COMPILED_JAR, null));
+        awaitIdle();
+
+        // Assert
+        ArtifactJobResponse job = artifactJobService.findJob(submitted.getId()).orElseThrow().toResponse();
+        assertThat(job.getStatus()).isEqualTo(ArtifactJobResponse.Status.FAILED);
+        assertThat(job.getError()).isEqualTo("Generated sources did not compile");
+    }
+
+    @Test
+    @DisplayName("Should reject a job without a kind before queueing it")
+    void shouldRequireKind() {
+        // Act & Assert
+        assertThatThrownBy(() -> artifactJobService.submit(new ArtifactJobRequest("user", "1.0", null, null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("kind");
+        assertThat(executor.getTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should purge finished jobs once they are past the retention")
+    void shouldPurgeFinishedJobs() throws InterruptedException {
+        // Arrange
+        when(jsonSchemaService.getAvroSchema("user", "1.0")).thenReturn("{}");
+        String id = artifactJobService.submit(
+            new ArtifactJobRequest("user", "1.0", ArtifactJobRequest.Kind.AVRO, null)).getId();
+        awaitIdle();
+
+        // Act
+        artifactJobService.purge();
+        boolean keptWithinRetention = artifactJobService.findJob(id).isPresent();
+        when(clock.instant()).thenReturn(NOW.plus(properties.getRetention()).plus(Duration.ofSeconds(1)));
+        artifactJobService.purge();
+
+        // Assert
+        assertThat(keptWithinRetention).isTrue();
+        assertThat(artifactJobService.findJob(id)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fail a job whose artifact does not fit the result budget until older jobs are purged")
+    void shouldKeepResultsWithinBudget() {
+        // Arrange
+        properties.setResultBudget(DataSize.ofBytes(6));
+        when(jsonSchemaService.generatePojoJar(anyString(), anyString())).thenReturn(new byte[4]);
+        ArtifactJob kept = awaitFinished(artifactJobService.submit(job("first", ArtifactJobRequest.Priority.NORMAL)));
+
+        // Act
+        ArtifactJob overBudget = awaitFinished(
+            artifactJobService.submit(job("second", ArtifactJobRequest.Priority.NORMAL)));
+        when(clock.instant()).thenReturn(NOW.plus(properties.getRetention()).plus(Duration.ofSeconds(1)));
+        artifactJobService.purge();
+        ArtifactJob afterPurge = awaitFinished(
+            artifactJobService.submit(job("third", ArtifactJobRequest.Priority.NORMAL)));
+
+        // Assert
+        assertThat(overBudget.getStatus()).isEqualTo(ArtifactJobResponse.Status.FAILED);
+        assertThat(overBudget.getError()).contains("result budget");
+        assertThat(artifactJobService.findJob(kept.getId())).isEmpty();
+        assertThat(afterPurge.getStatus()).isEqualTo(ArtifactJobResponse.Status.SUCCEEDED);
+        assertThat((byte[]) artifactJobService.getResult(afterPurge)).hasSize(4);
+    }
+
+    private ArtifactJobRequest job(String type, ArtifactJobRequest.Priority priority) {
+        return new ArtifactJobRequest(type, "1.0", ArtifactJobRequest.Kind.JAR, priority);
+    }
+
+    private ArtifactJob awaitFinished(ArtifactJobResponse submitted) {
+        ArtifactJob job = artifactJobService.findJob(submitted.getId()).orElseThrow();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!job.isFinished()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+        return job;
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.jsonschemavalidationpoc.config.BatchValidationProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.config.SpecializedValidationProperties;
+import org.example.jsonschemavalidationpoc.dto.BatchValidationRequest;
+import org.example.jsonschemavalidationpoc.dto.BatchValidationResponse;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchValidationService Unit Tests")
+class BatchValidationServiceTest {
+
+    @Mock
+    private JsonSchemaRepository repository;
+
+    @Mock
+    private SchemaContentRepository contentRepository;
+
+    @Mock
+    private AvroConverterService avroConverterService;
+
+    private ObjectMapper objectMapper;
+    private ForkJoinPool pool;
+    private BatchValidationService batchValidationService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        pool = new ForkJoinPool(4);
+
+        BatchValidationProperties properties = new BatchValidationProperties();
+        properties.setMaxSize(100);
+
+        SchemaCompiler schemaCompiler = new SchemaCompiler();
+        SchemaRegistry schemaRegistry = new SchemaRegistry(repository, contentRepository);
+        CompiledSchemaCache compiledSchemaCache = new CompiledSchemaCache(new SchemaCacheProperties());
+        ArtifactCache artifactCache = new ArtifactCache(new SchemaCacheProperties());
+        JsonSchemaService jsonSchemaService = new JsonSchemaService(repository, contentRepository,
+            schemaRegistry, objectMapper, avroConverterService,
+            schemaCompiler, new SchemaCodec(), compiledSchemaCache, artifactCache, new PojoCompiler(),
+            new SpecializationTier(new SpecializedValidatorCompiler(schemaCompiler), new SpecializedValidationProperties()),
+            new SchemaMetrics(new SimpleMeterRegistry()),
+            new SchemaChangeSync(schemaRegistry, compiledSchemaCache, artifactCache, Optional.empty(), Optional.empty(),
+                new SchemaChangeProperties()));
+        batchValidationService = new BatchValidationService(jsonSchemaService, pool, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should validate every document and keep input order")
+    void shouldValidateBatchInOrder() throws Exception {
+        // Arrange
+        JsonSchemaEntity schemaEntity = new JsonSchemaEntity();
+        schemaEntity.setId(1L);
+        schemaEntity.setType("user");
+        schemaEntity.setVersion("1.0");
+        schemaEntity.setSchemaContent("{\"type\":\"object\",\"properties\":{\"age\":{\"type\":\"integer\"}},\"required\":[\"age\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
+
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
+
+        List<JsonNode> documents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            documents.add(objectMapper.readTree(i % 2 == 0 ? "{\"age\":" + i + "}" : "{\"name\":\"x\"}"));
+        }
+
+        // Act
+        BatchValidationResponse response = batchValidationService.validateBatch(
+            new BatchValidationRequest("user", "1.0", documents));
+
+        // Assert
+        assertThat(response.getTotal()).isEqualTo(50);
+        assertThat(response.getValidCount()).isEqualTo(25);
+        for (int i = 0; i < 50; i++) {
+            assertThat(response.getResults().get(i).isValid()).isEqualTo(i % 2 == 0);
+        }
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the configured maximum size")
+    void shouldRejectOversizedBatch() {
+        // Arrange
+        List<JsonNode> documents = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            documents.add(objectMapper.createObjectNode());
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> batchValidationService.validateBatch(
+                new BatchValidationRequest("user", "1.0", documents)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exceeds the maximum");
+
+        verifyNoInteractions(repository);
+    }
+}
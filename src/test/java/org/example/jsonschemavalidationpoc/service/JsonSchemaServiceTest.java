@@ -1,20 +1,48 @@
 package org.example.jsonschemavalidationpoc.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.config.SpecializedValidationProperties;
+import org.example.jsonschemavalidationpoc.dto.SchemaPageResponse;
 import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
+import org.example.jsonschemavalidationpoc.dto.ValidationMode;
 import org.example.jsonschemavalidationpoc.dto.ValidationRequest;
 import org.example.jsonschemavalidationpoc.dto.ValidationResponse;
 import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
 import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,6 +55,9 @@ class JsonSchemaServiceTest {
     @Mock
     private JsonSchemaRepository repository;
 
+    @Mock
+    private SchemaContentRepository contentRepository;
+
     @Mock
     private AvroConverterService avroConverterService;
 
@@ -35,10 +66,25 @@ class JsonSchemaServiceTest {
 
     private ObjectMapper objectMapper;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private ArtifactCache artifactCache;
+
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        jsonSchemaService = new JsonSchemaService(repository, objectMapper, avroConverterService);
+        meterRegistry = new SimpleMeterRegistry();
+        SchemaCompiler schemaCompiler = new SchemaCompiler();
+        SchemaRegistry schemaRegistry = new SchemaRegistry(repository, contentRepository);
+        CompiledSchemaCache compiledSchemaCache = new CompiledSchemaCache(new SchemaCacheProperties());
+        artifactCache = new ArtifactCache(new SchemaCacheProperties());
+        jsonSchemaService = new JsonSchemaService(repository, contentRepository,
+            schemaRegistry, objectMapper, avroConverterService,
+            schemaCompiler, new SchemaCodec(), compiledSchemaCache, artifactCache, new PojoCompiler(),
+            new SpecializationTier(new SpecializedValidatorCompiler(schemaCompiler), new SpecializedValidationProperties()),
+            new SchemaMetrics(meterRegistry),
+            new SchemaChangeSync(schemaRegistry, compiledSchemaCache, artifactCache, Optional.empty(), Optional.empty(),
+                new SchemaChangeProperties()));
     }
 
     @Test
@@ -50,7 +96,6 @@ class JsonSchemaServiceTest {
         request.setVersion("1.0");
         request.setSchemaContent("{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}");
 
-        when(repository.existsByTypeAndVersion("user", "1.0")).thenReturn(false);
         when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> {
             JsonSchemaEntity entity = invocation.getArgument(0);
             entity.setId(1L);
@@ -93,7 +138,12 @@ class JsonSchemaServiceTest {
         request.setVersion("1.0");
         request.setSchemaContent("{\"type\":\"object\"}");
 
-        when(repository.existsByTypeAndVersion("user", "1.0")).thenReturn(true);
+        JsonSchemaEntity existing = new JsonSchemaEntity();
+        existing.setType("user");
+        existing.setVersion("1.0");
+        existing.setSchemaContent("{\"type\":\"object\"}");
+        existing.setContentHash(ContentHash.of(existing.getSchemaContent()));
+        when(repository.findAll()).thenReturn(List.of(existing));
 
         // Act & Assert
         assertThatThrownBy(() -> jsonSchemaService.saveSchema(request))
@@ -112,13 +162,14 @@ class JsonSchemaServiceTest {
         schemaEntity.setType("user");
         schemaEntity.setVersion("1.0");
         schemaEntity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
 
         ValidationRequest request = new ValidationRequest();
         request.setType("user");
         request.setVersion("1.0");
         request.setJsonData("{\"name\":\"John\",\"email\":\"john@example.com\"}");
 
-        when(repository.findByTypeAndVersion("user", "1.0")).thenReturn(Optional.of(schemaEntity));
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
 
         // Act
         ValidationResponse response = jsonSchemaService.validateJson(request);
@@ -137,13 +188,14 @@ class JsonSchemaServiceTest {
         schemaEntity.setType("user");
         schemaEntity.setVersion("1.0");
         schemaEntity.setSchemaContent("{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},\"email\":{\"type\":\"string\"}},\"required\":[\"name\",\"email\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
 
         ValidationRequest request = new ValidationRequest();
         request.setType("user");
         request.setVersion("1.0");
         request.setJsonData("{\"name\":\"John\"}"); // Missing required email
 
-        when(repository.findByTypeAndVersion("user", "1.0")).thenReturn(Optional.of(schemaEntity));
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
 
         // Act
         ValidationResponse response = jsonSchemaService.validateJson(request);
@@ -154,6 +206,196 @@ class JsonSchemaServiceTest {
         assertThat(response.getErrors().get(0)).contains("email");
     }
 
+    @Test
+    @DisplayName("Should stop at the first violation in fail-fast mode")
+    void shouldReportSingleErrorInFailFastMode() {
+        // Arrange
+        JsonSchemaEntity schemaEntity = new JsonSchemaEntity();
+        schemaEntity.setId(1L);
+        schemaEntity.setType("user");
+        schemaEntity.setVersion("1.0");
+        schemaEntity.setSchemaContent("{\"type\":\"object\",\"required\":[\"name\",\"email\",\"age\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
+
+        ValidationRequest request = new ValidationRequest("user", "1.0", "{}");
+
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
+
+        // Act
+        ValidationResponse full = jsonSchemaService.validateJson(request, ValidationMode.FULL);
+        ValidationResponse failFast = jsonSchemaService.validateJson(request, ValidationMode.FAIL_FAST);
+
+        // Assert
+        assertThat(full.isValid()).isFalse();
+        assertThat(full.getErrors()).hasSize(3);
+        assertThat(failFast.isValid()).isFalse();
+        assertThat(failFast.getErrors()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should answer without messages in boolean mode")
+    void shouldReturnNoMessagesInBooleanMode() {
+        // Arrange
+        JsonSchemaEntity schemaEntity = new JsonSchemaEntity();
+        schemaEntity.setId(1L);
+        schemaEntity.setType("user");
+        schemaEntity.setVersion("1.0");
+        schemaEntity.setSchemaContent("{\"type\":\"object\",\"required\":[\"name\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
+
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
+
+        // Act
+        ValidationResponse invalid = jsonSchemaService.validateJson(
+            new ValidationRequest("user", "1.0", "{}"), ValidationMode.BOOLEAN);
+        ValidationResponse valid = jsonSchemaService.validateJson(
+            new ValidationRequest("user", "1.0", "{\"name\":\"John\"}"), ValidationMode.BOOLEAN);
+
+        // Assert
+        assertThat(invalid.isValid()).isFalse();
+        assertThat(invalid.getErrors()).isEmpty();
+        assertThat(valid.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should resolve validation mode from query parameter before header")
+    void shouldResolveValidationMode() {
+        assertThat(ValidationMode.resolve(null, null)).isEqualTo(ValidationMode.FULL);
+        assertThat(ValidationMode.resolve(null, "fail-fast")).isEqualTo(ValidationMode.FAIL_FAST);
+        assertThat(ValidationMode.resolve("boolean", "fail-fast")).isEqualTo(ValidationMode.BOOLEAN);
+        assertThatThrownBy(() -> ValidationMode.resolve("fastest", null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown validation mode");
+    }
+
+    @Test
+    @DisplayName("Should compile a schema once and reuse it for later validations")
+    void shouldReuseCompiledSchema() {
+        // Arrange
+        JsonSchemaEntity schemaEntity = new JsonSchemaEntity();
+        schemaEntity.setId(1L);
+        schemaEntity.setType("user");
+        schemaEntity.setVersion("1.0");
+        schemaEntity.setSchemaContent("{\"type\":\"object\",\"required\":[\"name\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
+
+        ValidationRequest request = new ValidationRequest();
+        request.setType("user");
+        request.setVersion("1.0");
+        request.setJsonData("{\"name\":\"John\"}");
+
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
+
+        // Act
+        jsonSchemaService.validateJson(request);
+        jsonSchemaService.validateJson(request);
+        ValidationResponse response = jsonSchemaService.validateJson(request);
+
+        // Assert
+        assertThat(response.isValid()).isTrue();
+        verify(repository, times(1)).findAll();
+        assertThat(jsonSchemaService.getCacheStats().getHits()).isEqualTo(2);
+        assertThat(jsonSchemaService.getCacheStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the compiled schema when the same type and version is saved")
+    void shouldInvalidateCompiledSchemaOnSave() {
+        // Arrange
+        JsonSchemaEntity schemaEntity = new JsonSchemaEntity();
+        schemaEntity.setId(1L);
+        schemaEntity.setType("user");
+        schemaEntity.setVersion("1.0");
+        schemaEntity.setSchemaContent("{\"type\":\"object\"}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
+
+        // An existing version cannot be saved over, so the version is deleted before it is saved again
+        SchemaRequest saveRequest = new SchemaRequest("user", "1.0", 
+            "{\"type\":\"object\",\"required\":[\"name\"]}");
+
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        CompiledSchema before = jsonSchemaService.getCompiledSchema("user", "1.0");
+        jsonSchemaService.deleteSchema("user", "1.0");
+        jsonSchemaService.saveSchema(saveRequest);
+        CompiledSchema after = jsonSchemaService.getCompiledSchema("user", "1.0");
+
+        // Assert
+        assertThat(after).isNotSameAs(before);
+        assertThat(jsonSchemaService.validateJson(new ValidationRequest("user", "1.0", "{}")).isValid()).isFalse();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should serve a saved schema from the registry without a database lookup")
+    void shouldServeSavedSchemaFromRegistry() {
+        // Arrange
+        SchemaRequest saveRequest = new SchemaRequest("user", "1.0", 
+            "{\"type\":\"object\",\"required\":[\"name\"]}");
+        ValidationRequest validationRequest = new ValidationRequest("user", "1.0", "{}");
+
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        jsonSchemaService.saveSchema(saveRequest);
+        ValidationResponse response = jsonSchemaService.validateJson(validationRequest);
+
+        // Assert
+        assertThat(response.isValid()).isFalse();
+        verify(repository, never()).findByTypeAndVersion(anyString(), anyString());
+        assertThatThrownBy(() -> jsonSchemaService.saveSchema(saveRequest))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("already exists");
+        verify(repository, never()).existsByTypeAndVersion(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should record phase timings and outcomes tagged by type and version")
+    void shouldRecordValidationMetrics() {
+        // Arrange
+        JsonSchemaEntity schemaEntity = new JsonSchemaEntity();
+        schemaEntity.setId(1L);
+        schemaEntity.setType("user");
+        schemaEntity.setVersion("1.0");
+        schemaEntity.setSchemaContent("{\"type\":\"object\",\"required\":[\"name\"]}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
+
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
+
+        // Act
+        jsonSchemaService.validateJson(new ValidationRequest("user", "1.0", "{\"name\":\"John\"}"));
+        jsonSchemaService.validateJson(new ValidationRequest("user", "1.0", "{}"));
+
+        // Assert
+        assertThat(meterRegistry.get("schema.validations")
+            .tags("type", "user", "version", "1.0", "outcome", "valid").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("schema.validations")
+            .tags("type", "user", "version", "1.0", "outcome", "invalid").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("schema.phase").tag("phase", "compile").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("schema.phase").tag("phase", "validate").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("schema.payload.size").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should time lookups of unknown schemas under one shared tag")
+    void shouldNotTagUnknownSchemaLookups() {
+        // Arrange
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            String type = "missing-" + i;
+            assertThatThrownBy(() -> jsonSchemaService.resolveKey(type, "1.0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // Assert
+        assertThat(meterRegistry.get("schema.phase").tag("phase", "lookup").timers()).hasSize(1);
+        assertThat(meterRegistry.get("schema.phase")
+            .tags("phase", "lookup", "type", "unknown", "version", "unknown").timer().count()).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("Should throw exception when schema not found for validation")
     void shouldThrowExceptionWhenSchemaNotFoundForValidation() {
@@ -163,7 +405,6 @@ class JsonSchemaServiceTest {
         request.setVersion("1.0");
         request.setJsonData("{\"name\":\"John\"}");
 
-        when(repository.findByTypeAndVersion("nonexistent", "1.0")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> jsonSchemaService.validateJson(request))
@@ -180,10 +421,11 @@ class JsonSchemaServiceTest {
         schemaEntity.setType("user");
         schemaEntity.setVersion("1.0");
         schemaEntity.setSchemaContent("{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}");
+        schemaEntity.setContentHash(ContentHash.of(schemaEntity.getSchemaContent()));
 
         String expectedAvroSchema = "{\"type\":\"record\",\"name\":\"User\"}";
 
-        when(repository.findByTypeAndVersion("user", "1.0")).thenReturn(Optional.of(schemaEntity));
+        when(repository.findAll()).thenReturn(List.of(schemaEntity));
         when(avroConverterService.convertJsonSchemaToAvro(anyString(), eq("user")))
             .thenReturn(expectedAvroSchema);
 
@@ -195,15 +437,355 @@ class JsonSchemaServiceTest {
         verify(avroConverterService).convertJsonSchemaToAvro(schemaEntity.getSchemaContent(), "user");
     }
 
+    @Test
+    @DisplayName("Should store identical content once and share compiled and Avro output across versions")
+    void shouldShareContentAcrossVersions() {
+        // Arrange
+        String content = "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}";
+        String contentHash = ContentHash.of(content);
+
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contentRepository.existsById(contentHash)).thenReturn(false, true);
+        when(avroConverterService.convertJsonSchemaToAvro(content, "user"))
+            .thenReturn("{\"type\":\"record\",\"name\":\"User\"}");
+
+        // Act
+        JsonSchemaEntity first = jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content));
+        JsonSchemaEntity second = jsonSchemaService.saveSchema(new SchemaRequest("user", "1.1", content));
+        CompiledSchema firstCompiled = jsonSchemaService.getCompiledSchema("user", "1.0");
+        CompiledSchema secondCompiled = jsonSchemaService.getCompiledSchema("user", "1.1");
+        jsonSchemaService.getAvroSchema("user", "1.0");
+        jsonSchemaService.getAvroSchema("user", "1.1");
+
+        // Assert
+        assertThat(first.getContentHash()).isEqualTo(contentHash).isEqualTo(second.getContentHash());
+        assertThat(secondCompiled).isSameAs(firstCompiled);
+        verify(contentRepository, times(1)).save(any(SchemaContentEntity.class));
+        verify(avroConverterService, times(1)).convertJsonSchemaToAvro(content, "user");
+    }
+
+    @Test
+    @DisplayName("Should reject a version saved by another instance whose announcement has not arrived")
+    void shouldRejectVersionSavedElsewhere() {
+        // Arrange
+        when(repository.save(any(JsonSchemaEntity.class)))
+            .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", "{\"type\":\"object\"}")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("already exists");
+        assertThatThrownBy(() -> jsonSchemaService.getSchema("user", "1.0"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should accept concurrent saves of the same new content when the second content insert collides")
+    void shouldSaveSameContentConcurrently() throws Exception {
+        // Arrange
+        String content = "{\"type\":\"object\",\"required\":[\"name\"]}";
+        String contentHash = ContentHash.of(content);
+        Set<String> storedHashes = ConcurrentHashMap.newKeySet();
+        CyclicBarrier bothChecked = new CyclicBarrier(2);
+        AtomicInteger checks = new AtomicInteger();
+
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // Both saves see the content as absent before either inserts it
+        when(contentRepository.existsById(contentHash)).thenAnswer(invocation -> {
+            if (checks.incrementAndGet() <= 2) {
+                bothChecked.await(10, TimeUnit.SECONDS);
+                return false;
+            }
+            return storedHashes.contains(contentHash);
+        });
+        when(contentRepository.save(any(SchemaContentEntity.class))).thenAnswer(invocation -> {
+            SchemaContentEntity entity = invocation.getArgument(0);
+            if (!storedHashes.add(entity.getHash())) {
+                throw new DataIntegrityViolationException("Unique index or primary key violation");
+            }
+            return entity;
+        });
+
+        // Act
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JsonSchemaEntity> user = executor.submit(
+                () -> jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content)));
+            Future<JsonSchemaEntity> customer = executor.submit(
+                () -> jsonSchemaService.saveSchema(new SchemaRequest("customer", "1.0", content)));
+
+            // Assert
+            assertThat(user.get(10, TimeUnit.SECONDS).getContentHash()).isEqualTo(contentHash);
+            assertThat(customer.get(10, TimeUnit.SECONDS).getContentHash()).isEqualTo(contentHash);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(contentRepository, times(2)).save(any(SchemaContentEntity.class));
+        verify(repository, times(2)).save(any(JsonSchemaEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should persist normalized and binary forms and compile from the binary form")
+    void shouldPersistBinaryForm() throws Exception {
+        // Arrange
+        String content = """
+            {
+              "type": "object",
+              "required": ["name"]
+            }
+            """;
+        SchemaCodec schemaCodec = new SchemaCodec();
+        ArgumentCaptor<SchemaContentEntity> stored = ArgumentCaptor.forClass(SchemaContentEntity.class);
+
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        JsonSchemaEntity saved = jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content));
+        CompiledSchema compiled = jsonSchemaService.getCompiledSchema("user", "1.0");
+
+        // Assert
+        verify(contentRepository).save(stored.capture());
+        assertThat(stored.getValue().getContent()).isEqualTo(content);
+        assertThat(stored.getValue().getNormalizedContent()).isEqualTo("{\"type\":\"object\",\"required\":[\"name\"]}");
+        assertThat(schemaCodec.decode(stored.getValue().getBinaryContent())).isEqualTo(objectMapper.readTree(content));
+        assertThat(saved.getBinaryContent()).isEqualTo(stored.getValue().getBinaryContent());
+        assertThat(compiled.schema().getSchemaNode()).isEqualTo(objectMapper.readTree(content));
+    }
+
+    @Test
+    @DisplayName("Should page through schemas with a keyset cursor")
+    void shouldListSchemasWithCursor() {
+        // Arrange
+        when(repository.findByTypeAndIdGreaterThanOrderByIdAsc("user", 0L, Limit.of(2)))
+            .thenReturn(List.of(summary(3L, "1.0"), summary(7L, "1.1")));
+        when(repository.findByTypeAndIdGreaterThanOrderByIdAsc("user", 7L, Limit.of(2)))
+            .thenReturn(List.of(summary(9L, "2.0")));
+
+        // Act
+        SchemaPageResponse firstPage = jsonSchemaService.listSchemas("user", 0L, 2);
+        SchemaPageResponse lastPage = jsonSchemaService.listSchemas("user", firstPage.getNextCursor(), 2);
+
+        // Assert
+        assertThat(firstPage.getSchemas()).extracting(SchemaSummary::getVersion).containsExactly("1.0", "1.1");
+        assertThat(firstPage.getNextCursor()).isEqualTo(7L);
+        assertThat(lastPage.getSchemas()).extracting(SchemaSummary::getVersion).containsExactly("2.0");
+        assertThat(lastPage.getNextCursor()).isNull();
+        assertThatThrownBy(() -> jsonSchemaService.listSchemas(null, 0L, 501))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should resolve cyclic references between stored schemas once per root")
+    void shouldResolveStoredReferences() {
+        // Arrange
+        String user = """
+            {"type": "object",
+             "properties": {"name": {"type": "string"},
+                            "orders": {"type": "array", "items": {"$ref": "schema://order/1.0"}}}}
+            """;
+        String order = """
+            {"type": "object", "required": ["id"],
+             "properties": {"id": {"type": "integer"},
+                            "customer": {"$ref": "schema://user/latest"}}}
+            """;
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", user));
+        jsonSchemaService.saveSchema(new SchemaRequest("order", "1.0", order));
+
+        // Act
+        ValidationResponse valid = jsonSchemaService.validateJson(new ValidationRequest("user", "1.0",
+            "{\"orders\":[{\"id\":1,\"customer\":{\"name\":\"Ann\",\"orders\":[{\"id\":2}]}}]}"));
+        ValidationResponse invalid = jsonSchemaService.validateJson(new ValidationRequest("user", "1.0",
+            "{\"orders\":[{\"id\":1,\"customer\":{\"orders\":[{\"id\":\"two\"}]}}]}"));
+        CompiledSchema compiled = jsonSchemaService.getCompiledSchema("user", "1.0");
+        CompiledSchema reused = jsonSchemaService.getCompiledSchema("user", "1.0");
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.1", user));
+        CompiledSchema rebuilt = jsonSchemaService.getCompiledSchema("user", "1.0");
+
+        // Assert
+        assertThat(valid.isValid()).isTrue();
+        assertThat(invalid.isValid()).isFalse();
+        assertThat(reused).isSameAs(compiled);
+        assertThat(rebuilt).isNotSameAs(compiled);
+        assertThat(compiled.references(new SchemaKey("order", "1.0"))).isTrue();
+        verify(repository, never()).findByTypeAndVersion(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should refuse remote references instead of fetching them")
+    void shouldRefuseRemoteReferences() {
+        // Arrange
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0",
+            "{\"properties\":{\"address\":{\"$ref\":\"https://example.com/address.json\"}}}"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> jsonSchemaService.getCompiledSchema("user", "1.0"))
+            .hasStackTraceContaining("is not fetched");
+    }
+
+    @Test
+    @DisplayName("Should refuse file and jar references but still resolve the bundled metaschemas")
+    void shouldRefuseLocalReferences() {
+        // Arrange
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jsonSchemaService.saveSchema(new SchemaRequest("file", "1.0",
+            "{\"properties\":{\"secret\":{\"$ref\":\"file:///etc/passwd\"}}}"));
+        jsonSchemaService.saveSchema(new SchemaRequest("jar", "1.0",
+            "{\"properties\":{\"remote\":{\"$ref\":\"jar:http://example.com/schemas.jar!/address.json\"}}}"));
+        jsonSchemaService.saveSchema(new SchemaRequest("meta", "1.0",
+            "{\"properties\":{\"nested\":{\"$ref\":\"http://json-schema.org/draft-07/schema#\"}}}"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> jsonSchemaService.getCompiledSchema("file", "1.0"))
+            .hasStackTraceContaining("is not fetched");
+        assertThatThrownBy(() -> jsonSchemaService.getCompiledSchema("jar", "1.0"))
+            .hasStackTraceContaining("is not fetched");
+        assertThat(jsonSchemaService.validateJson(new ValidationRequest("meta", "1.0",
+            "{\"nested\":{\"type\":\"string\"}}")).isValid()).isTrue();
+        assertThat(jsonSchemaService.validateJson(new ValidationRequest("meta", "1.0",
+            "{\"nested\":{\"type\":42}}")).isValid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should delete an exact version and stop serving it")
+    void shouldDeleteSchema() {
+        // Arrange
+        String content = "{\"type\":\"object\"}";
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> {
+            JsonSchemaEntity entity = invocation.getArgument(0);
+            entity.setId(7L);
+            return entity;
+        });
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content));
+
+        // Act
+        jsonSchemaService.deleteSchema("user", "1.0");
+
+        // Assert
+        verify(repository).deleteById(7L);
+        assertThatThrownBy(() -> jsonSchemaService.getSchema("user", "1.0"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Schema not found");
+        assertThatThrownBy(() -> jsonSchemaService.deleteSchema("user", "latest"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exact version");
+    }
+
+    @Test
+    @DisplayName("Should compile generated POJOs into loadable classes once per content")
+    void shouldCompilePojoJar() throws Exception {
+        // Arrange
+        String content = """
+            {"type": "object",
+             "definitions": {"address": {"type": "object", "properties": {"city": {"type": "string"}}}},
+             "properties": {"name": {"type": "string"}, "address": {"$ref": "#/definitions/address"}}}
+            """;
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.1", content));
+
+        // Act
+        byte[] jar = jsonSchemaService.generatePojoClassesJar("user", "1.0");
+        byte[] cached = jsonSchemaService.generatePojoClassesJar("user", "1.1");
+
+        // Assert
+        Map<String, byte[]> classes = new HashMap<>();
+        try (JarInputStream entries = new JarInputStream(new ByteArrayInputStream(jar))) {
+            for (JarEntry entry = entries.getNextJarEntry(); entry != null; entry = entries.getNextJarEntry()) {
+                classes.put(entry.getName(), entries.readAllBytes());
+            }
+        }
+        assertThat(classes).containsOnlyKeys("org/example/generated/User.class", "org/example/generated/Address.class");
+        assertThat(cached).isSameAs(jar);
+        ClassLoader loader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name.replace('.', '/') + ".class");
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        Class<?> user = loader.loadClass("org.example.generated.User");
+        Object instance = user.getMethod("withName", String.class).invoke(user.getConstructor().newInstance(), "Ann");
+        assertThat(user.getMethod("getName").invoke(instance)).isEqualTo("Ann");
+    }
+
+    @Test
+    @DisplayName("Should build identical jar bytes for the same content and tag them with a stable ETag")
+    void shouldBuildReproducibleJars() {
+        // Arrange
+        String content = "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}";
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.1", content));
+        jsonSchemaService.saveSchema(new SchemaRequest("customer", "1.0", content));
+
+        // Act
+        byte[] first = jsonSchemaService.generatePojoJar("user", "1.0");
+        byte[] cached = jsonSchemaService.generatePojoJar("user", "1.1");
+        artifactCache.invalidateAll();
+        byte[] rebuilt = jsonSchemaService.generatePojoJar("user", "1.0");
+
+        // Assert
+        assertThat(cached).isSameAs(first);
+        assertThat(rebuilt).isNotSameAs(first).isEqualTo(first);
+        assertThat(jsonSchemaService.pojoJarETag("user", "1.0", false))
+            .startsWith("\"")
+            .isEqualTo(jsonSchemaService.pojoJarETag("user", "1.1", false))
+            .isNotEqualTo(jsonSchemaService.pojoJarETag("customer", "1.0", false))
+            .isNotEqualTo(jsonSchemaService.pojoJarETag("user", "1.0", true));
+    }
+
+    @Test
+    @DisplayName("Should generate sources for the root and referenced definitions from stored content")
+    void shouldGeneratePojoJarInMemory() throws IOException {
+        // Arrange
+        String content = """
+            {"type": "object",
+             "definitions": {"address": {"type": "object", "properties": {"city": {"type": "string"}}}},
+             "properties": {"name": {"type": "string"}, "address": {"$ref": "#/definitions/address"}}}
+            """;
+        when(repository.save(any(JsonSchemaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jsonSchemaService.saveSchema(new SchemaRequest("user", "1.0", content));
+
+        // Act
+        byte[] jar = jsonSchemaService.generatePojoJar("user", "1.0");
+
+        // Assert
+        Map<String, String> sources = new HashMap<>();
+        try (JarInputStream entries = new JarInputStream(new ByteArrayInputStream(jar))) {
+            for (JarEntry entry = entries.getNextJarEntry(); entry != null; entry = entries.getNextJarEntry()) {
+                sources.put(entry.getName(), new String(entries.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(sources).containsOnlyKeys("org/example/generated/User.java", "org/example/generated/Address.java");
+        assertThat(sources.get("org/example/generated/User.java"))
+            .contains("public class User")
+            .contains("private Address address;");
+    }
+
     @Test
     @DisplayName("Should throw exception when schema not found for Avro conversion")
     void shouldThrowExceptionWhenSchemaNotFoundForAvro() {
         // Arrange
-        when(repository.findByTypeAndVersion("nonexistent", "1.0")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> jsonSchemaService.getAvroSchema("nonexistent", "1.0"))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("Schema not found");
     }
+
+    private SchemaSummary summary(Long id, String version) {
+        return new SchemaSummary() {
+            public Long getId() { return id; }
+            public String getType() { return "user"; }
+            public String getVersion() { return version; }
+            public Integer getContentSize() { return 17; }
+            public String getContentHash() { return ContentHash.of("{\"type\":\"object\"}"); }
+        };
+    }
 }
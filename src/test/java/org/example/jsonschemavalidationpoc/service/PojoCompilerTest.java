@@ -0,0 +1,60 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PojoCompiler Unit Tests")
+class PojoCompilerTest {
+
+    private PojoCompiler pojoCompiler;
+
+    @BeforeEach
+    void setUp() {
+        pojoCompiler = new PojoCompiler();
+    }
+
+    @Test
+    @DisplayName("Should compile sources that use Jackson annotations into class files keyed by jar path")
+    void shouldCompileSources() {
+        // Arrange
+        String source = """
+            package org.example.generated;
+
+            import com.fasterxml.jackson.annotation.JsonProperty;
+
+            public class User {
+                @JsonProperty("name")
+                private String name;
+
+                public static class Tag {
+                }
+            }
+            """;
+
+        // Act
+        SortedMap<String, byte[]> classes = pojoCompiler.compile(Map.of("org/example/generated/User.java", source));
+
+        // Assert
+        assertThat(classes).containsOnlyKeys("org/example/generated/User.class", "org/example/generated/User$Tag.class");
+        // Class file major version 61 is Java 17
+        assertThat(classes.get("org/example/generated/User.class")[7]).isEqualTo((byte) 61);
+    }
+
+    @Test
+    @DisplayName("Should report compiler errors")
+    void shouldReportCompilerErrors() {
+        // Arrange
+        String source = "package org.example.generated; public class Broken { int count = \"many\"; }";
+
+        // Act & Assert
+        assertThatThrownBy(() -> pojoCompiler.compile(Map.of("org/example/generated/Broken.java", source)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("did not compile");
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.entity.SchemaChangeEntity;
+import org.example.jsonschemavalidationpoc.repository.SchemaChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PollingSchemaChangeChannel Unit Tests")
+class PollingSchemaChangeChannelTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private SchemaChangeRepository repository;
+
+    @Mock
+    private Clock clock;
+
+    private PollingSchemaChangeChannel channel;
+    private final List<String> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        SchemaChangeProperties properties = new SchemaChangeProperties();
+        properties.setGapTimeout(Duration.ofSeconds(10));
+        channel = new PollingSchemaChangeChannel(repository, properties, clock);
+        channel.subscribe(event -> received.add(event.version()));
+        when(repository.findMaxId()).thenReturn(10L);
+        channel.start();
+    }
+
+    @Test
+    @DisplayName("Should deliver new changes in id order and continue after the last one")
+    void shouldDeliverChangesInOrder() {
+        // Arrange
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class)))
+            .thenReturn(List.of(change(11, "1.1"), change(12, "1.2")));
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(12L), any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        assertThat(received).containsExactly("1.1", "1.2");
+        verify(repository).findByIdGreaterThanOrderByIdAsc(eq(12L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should wait at a gap for a change committed late and deliver everything once")
+    void shouldWaitForLateCommit() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class)))
+            .thenReturn(List.of(change(11, "1.1"), change(13, "1.3")));
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(11L), any(Limit.class)))
+            .thenReturn(List.of(change(12, "1.2"), change(13, "1.3")));
+
+        // Act
+        channel.poll();
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        assertThat(received).containsExactly("1.1", "1.3", "1.2");
+        verify(repository).findByIdGreaterThanOrderByIdAsc(eq(13L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should skip a gap older than the gap timeout")
+    void shouldSkipGapAfterTimeout() {
+        // Arrange
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(11));
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class)))
+            .thenReturn(List.of(change(12, "1.2")));
+
+        // Act
+        channel.poll();
+        channel.poll();
+        channel.poll();
+
+        // Assert
+        assertThat(received).containsExactly("1.2");
+        verify(repository).findByIdGreaterThanOrderByIdAsc(eq(12L), any(Limit.class));
+    }
+
+    private SchemaChangeEntity change(long id, String version) {
+        return new SchemaChangeEntity(id, SchemaChangeEvent.Kind.SAVED, "user", version, "hash", "other-node", NOW);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Two instances sharing one database, connected by the in-JVM channel
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaChangeSync Unit Tests")
+class SchemaChangeSyncTest {
+
+    private static final String USER_CONTENT = "{\"type\":\"object\"}";
+    private static final String ORDER_CONTENT = "{\"type\":\"array\"}";
+
+    @Mock
+    private JsonSchemaRepository repository;
+
+    @Mock
+    private SchemaContentRepository contentRepository;
+
+    private Node first;
+    private Node second;
+
+    @BeforeEach
+    void setUp() {
+        InMemorySchemaChangeChannel channel = new InMemorySchemaChangeChannel(new CopyOnWriteArrayList<>());
+        first = node(channel);
+        second = node(channel);
+
+        when(repository.findAll()).thenAnswer(invocation -> List.of(row("user", "1.0", USER_CONTENT), 
+            row("order", "1.0", ORDER_CONTENT)));
+        first.registry().findAll();
+        second.registry().findAll();
+    }
+
+    @Test
+    @DisplayName("Should add a schema saved on another instance without reloading")
+    void shouldApplyRemoteSave() {
+        // Arrange
+        when(repository.findByTypeAndVersion("user", "1.1"))
+            .thenReturn(Optional.of(row("user", "1.1", USER_CONTENT, false)));
+
+        // Act
+        JsonSchemaEntity saved = first.sync().save(() -> row("user", "1.1", USER_CONTENT));
+
+        // Assert
+        assertThat(first.registry().find("user", "latest")).containsSame(saved);
+        assertThat(second.registry().find("user", "latest").orElseThrow().getVersion()).isEqualTo("1.1");
+        assertThat(second.registry().find("user", "1.1").orElseThrow().getSchemaContent()).isEqualTo(USER_CONTENT);
+        verify(repository, times(2)).findAll();
+        verify(repository, times(1)).findByTypeAndVersion(anyString(), anyString());
+        verify(contentRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should remove a schema deleted on another instance and drop its unreferenced caches")
+    void shouldApplyRemoteDelete() {
+        // Arrange
+        String orderHash = ContentHash.of(ORDER_CONTENT);
+        second.compiledSchemaCache().get(orderHash, hash -> new CompiledSchema(null, 1));
+        second.artifactCache().avroSchema(orderHash, "order", () -> "stale");
+        JsonSchemaEntity order = first.registry().find("order", "1.0").orElseThrow();
+
+        // Act
+        first.sync().delete(order, () -> { });
+
+        // Assert
+        assertThat(first.registry().exists("order", "1.0")).isFalse();
+        assertThat(second.registry().find("order", "latest")).isEmpty();
+        assertThat(second.compiledSchemaCache().size()).isZero();
+        assertThat(second.artifactCache().avroSchema(orderHash, "order", () -> "regenerated"))
+            .isEqualTo("regenerated");
+        assertThat(second.registry().find("user", "1.0")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should fail a save whose change cannot be announced and leave the registry unchanged")
+    void shouldFailSaveWhenAnnouncementFails() {
+        // Arrange
+        SchemaChangeChannel failing = mock(SchemaChangeChannel.class);
+        doThrow(new IllegalStateException("schema_changes unavailable")).when(failing).publish(any());
+        Node node = node(failing);
+
+        // Act & Assert
+        assertThatThrownBy(() -> node.sync().save(() -> row("user", "1.1", USER_CONTENT)))
+            .hasMessage("schema_changes unavailable");
+        assertThat(node.registry().findAll()).extracting(JsonSchemaEntity::getVersion).containsOnly("1.0");
+    }
+
+    @Test
+    @DisplayName("Should ignore its own changes coming back from the channel")
+    void shouldIgnoreOwnChanges() {
+        // Arrange
+        JsonSchemaEntity user = first.registry().find("user", "1.0").orElseThrow();
+
+        // Act
+        first.sync().apply(new SchemaChangeEvent(SchemaChangeEvent.Kind.DELETED, "user", "1.0", 
+            user.getContentHash(), first.properties().getNodeId()));
+
+        // Assert
+        assertThat(first.registry().find("user", "1.0")).containsSame(user);
+    }
+
+    private JsonSchemaEntity row(String type, String version, String content) {
+        return row(type, version, content, true);
+    }
+
+    private JsonSchemaEntity row(String type, String version, String content, boolean withContent) {
+        JsonSchemaEntity entity = new JsonSchemaEntity();
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setContentHash(ContentHash.of(content));
+        entity.setSchemaContent(withContent ? content : null);
+        return entity;
+    }
+
+    private Node node(SchemaChangeChannel channel) {
+        SchemaRegistry registry = new SchemaRegistry(repository, contentRepository);
+        CompiledSchemaCache compiledSchemaCache = new CompiledSchemaCache(new SchemaCacheProperties());
+        ArtifactCache artifactCache = new ArtifactCache(new SchemaCacheProperties());
+        SchemaChangeProperties properties = new SchemaChangeProperties();
+        return new Node(registry, compiledSchemaCache, artifactCache, properties, 
+            new SchemaChangeSync(registry, compiledSchemaCache, artifactCache, Optional.of(channel), Optional.empty(), 
+                properties));
+    }
+
+    private record Node(SchemaRegistry registry, CompiledSchemaCache compiledSchemaCache, 
+            ArtifactCache artifactCache, SchemaChangeProperties properties, SchemaChangeSync sync) {
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.jsonschemavalidationpoc.config.SchemaCacheProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaChangeProperties;
+import org.example.jsonschemavalidationpoc.config.SchemaImportProperties;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResponse;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResult;
+import org.example.jsonschemavalidationpoc.dto.SchemaImportResult.Status;
+import org.example.jsonschemavalidationpoc.dto.SchemaRequest;
+import org.example.jsonschemavalidationpoc.dto.SchemaSummary;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.JpaSchemaBatchWriter;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaImportService Unit Tests")
+class SchemaImportServiceTest {
+
+    private static final String CONTENT = "{\"type\":\"object\"}";
+
+    @Mock
+    private JsonSchemaRepository repository;
+
+    @Mock
+    private SchemaContentRepository contentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ForkJoinPool pool;
+    private SchemaRegistry schemaRegistry;
+    private SchemaImportService schemaImportService;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        SchemaImportProperties properties = new SchemaImportProperties();
+        properties.setMaxSize(10);
+        schemaRegistry = new SchemaRegistry(repository, contentRepository);
+        SchemaCacheProperties cacheProperties = new SchemaCacheProperties();
+        SchemaChangeSync schemaChangeSync = new SchemaChangeSync(schemaRegistry, new CompiledSchemaCache(cacheProperties),
+            new ArtifactCache(cacheProperties), Optional.empty(), Optional.empty(), new SchemaChangeProperties());
+        JpaSchemaBatchWriter batchWriter = new JpaSchemaBatchWriter(contentRepository, entityManager,
+            new TransactionTemplate(transactionManager), properties);
+        schemaImportService = new SchemaImportService(repository, batchWriter, schemaChangeSync,
+            new SchemaCodec(), new ObjectMapper(), pool, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should report a result per item and insert only new schemas")
+    void shouldImportAndReportEachItem() {
+        // Arrange
+        List<SchemaRequest> requests = List.of(
+            new SchemaRequest("user", "1.0", CONTENT),
+            new SchemaRequest("user", "1.1", CONTENT),
+            new SchemaRequest("user", "2.0", "not json"),
+            new SchemaRequest("order", "1.0", CONTENT),
+            new SchemaRequest("user", "1.1", CONTENT));
+
+        SchemaSummary existing = mock(SchemaSummary.class);
+        when(existing.getType()).thenReturn("order");
+        when(existing.getVersion()).thenReturn("1.0");
+        when(repository.findByTypeInAndVersionIn(anyCollection(), anyCollection())).thenReturn(List.of(existing));
+        when(contentRepository.findExistingHashes(anyCollection())).thenReturn(Collections.emptyList());
+
+        AtomicLong ids = new AtomicLong();
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof JsonSchemaEntity entity) {
+                entity.setId(ids.incrementAndGet());
+            }
+            return null;
+        }).when(entityManager).persist(any());
+
+        // Act
+        SchemaImportResponse response = schemaImportService.importSchemas(requests);
+
+        // Assert
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(SchemaImportResult::getStatus)
+            .containsExactly(Status.CREATED, Status.CREATED, Status.INVALID, Status.DUPLICATE, Status.DUPLICATE);
+        assertThat(response.getResults().get(0).getId()).isEqualTo(1L);
+        assertThat(response.getResults().get(2).getError()).contains("Invalid JSON schema");
+
+        verify(repository, times(1)).findByTypeInAndVersionIn(anyCollection(), anyCollection());
+        verify(entityManager, times(1)).persist(any(SchemaContentEntity.class));
+        verify(entityManager, times(2)).persist(any(JsonSchemaEntity.class));
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(schemaRegistry.exists("user", "1.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject imports larger than the configured maximum")
+    void shouldRejectOversizedImport() {
+        // Arrange
+        List<SchemaRequest> requests = Collections.nCopies(11, new SchemaRequest("user", "1.0", CONTENT));
+
+        // Act & Assert
+        assertThatThrownBy(() -> schemaImportService.importSchemas(requests))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exceeds the maximum");
+        verifyNoInteractions(entityManager);
+    }
+}
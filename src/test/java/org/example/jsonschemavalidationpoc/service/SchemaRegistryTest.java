@@ -0,0 +1,159 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.example.jsonschemavalidationpoc.entity.SchemaContentEntity;
+import org.example.jsonschemavalidationpoc.repository.JsonSchemaRepository;
+import org.example.jsonschemavalidationpoc.repository.SchemaContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaRegistry Unit Tests")
+class SchemaRegistryTest {
+
+    private static final String CONTENT = "{\"type\":\"object\"}";
+    private static final String CONTENT_HASH = ContentHash.of(CONTENT);
+    private static final byte[] BINARY_CONTENT = {0x3a, 0x29, 0x0a};
+
+    @Mock
+    private JsonSchemaRepository repository;
+
+    @Mock
+    private SchemaContentRepository contentRepository;
+
+    private SchemaRegistry schemaRegistry;
+
+    @BeforeEach
+    void setUp() {
+        schemaRegistry = new SchemaRegistry(repository, contentRepository);
+    }
+
+    @Test
+    @DisplayName("Should load stored schemas once and then serve reads from the snapshot")
+    void shouldServeReadsFromSnapshot() {
+        // Arrange
+        JsonSchemaEntity user = row("user", "1.0");
+        when(repository.findAll()).thenReturn(List.of(user));
+        when(contentRepository.findAllById(Set.of(CONTENT_HASH)))
+            .thenReturn(List.of(new SchemaContentEntity(CONTENT_HASH, CONTENT, CONTENT, BINARY_CONTENT)));
+
+        // Act
+        Optional<JsonSchemaEntity> first = schemaRegistry.find("user", "1.0");
+        Optional<JsonSchemaEntity> second = schemaRegistry.find("user", "1.0");
+        boolean exists = schemaRegistry.exists("user", "1.0");
+
+        // Assert
+        assertThat(first).containsSame(user);
+        assertThat(second).containsSame(user);
+        assertThat(exists).isTrue();
+        assertThat(user.getSchemaContent()).isEqualTo(CONTENT);
+        assertThat(user.getBinaryContent()).isSameAs(BINARY_CONTENT);
+        verify(repository, times(1)).findAll();
+        verify(repository, never()).findByTypeAndVersion(anyString(), anyString());
+        verify(repository, never()).existsByTypeAndVersion(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should publish saved schemas to readers and share content with equal versions")
+    void shouldPublishSavedSchema() {
+        // Arrange
+        JsonSchemaEntity stored = row("user", "1.0");
+        JsonSchemaEntity user = row("user", "2.0");
+        user.setSchemaContent(new String(CONTENT));
+        when(repository.findAll()).thenReturn(List.of(stored));
+        when(contentRepository.findAllById(Set.of(CONTENT_HASH)))
+            .thenReturn(List.of(new SchemaContentEntity(CONTENT_HASH, CONTENT, null, null)));
+
+        // Act
+        schemaRegistry.find("user", "1.0");
+        schemaRegistry.put(user);
+
+        // Assert
+        assertThat(schemaRegistry.find("user", "2.0")).containsSame(user);
+        assertThat(schemaRegistry.findAll()).hasSize(2);
+        assertThat(user.getSchemaContent()).isSameAs(stored.getSchemaContent());
+        verify(repository, never()).findByTypeAndVersion(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should answer lookups of unknown schemas from the snapshot without querying the database")
+    void shouldNotQueryDatabaseOnMiss() {
+        // Arrange
+        when(repository.findAll()).thenReturn(List.of());
+
+        // Act
+        Optional<JsonSchemaEntity> found = schemaRegistry.find("order", "1.0");
+        boolean exists = schemaRegistry.exists("order", "1.0");
+
+        // Assert
+        assertThat(found).isEmpty();
+        assertThat(exists).isFalse();
+        verify(repository, times(1)).findAll();
+        verify(repository, never()).findByTypeAndVersion(anyString(), anyString());
+        verify(repository, never()).existsByTypeAndVersion(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should read the rows again when a delete is published while they load, instead of restoring it")
+    void shouldNotRestoreSchemaDeletedDuringLoad() {
+        // Arrange
+        JsonSchemaEntity user = row("user", "1.0");
+        user.setSchemaContent(CONTENT);
+        when(repository.findAll())
+            .thenAnswer(invocation -> {
+                // Committed just after the rows were read
+                schemaRegistry.remove("user", "1.0");
+                return List.of(user);
+            })
+            .thenReturn(List.of());
+
+        // Act
+        Optional<JsonSchemaEntity> found = schemaRegistry.find("user", "1.0");
+
+        // Assert
+        assertThat(found).isEmpty();
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should resolve latest and version ranges from the index, including newly saved versions")
+    void shouldResolveLatestVersion() {
+        // Arrange
+        when(repository.findAll()).thenReturn(List.of(row("user", "1.0"), row("user", "1.2"), row("order", "3.0")));
+        when(contentRepository.findAllById(Set.of(CONTENT_HASH)))
+            .thenReturn(List.of(new SchemaContentEntity(CONTENT_HASH, CONTENT, null, null)));
+
+        // Act
+        String latestBeforeSave = schemaRegistry.find("user", "latest").orElseThrow().getVersion();
+        JsonSchemaEntity saved = row("user", "1.10");
+        saved.setSchemaContent(CONTENT);
+        schemaRegistry.put(saved);
+
+        // Assert
+        assertThat(latestBeforeSave).isEqualTo("1.2");
+        assertThat(schemaRegistry.find("user", "latest")).containsSame(saved);
+        assertThat(schemaRegistry.find("user", "~1.0").orElseThrow().getVersion()).isEqualTo("1.0");
+        assertThat(schemaRegistry.find("user", "^2.0")).isEmpty();
+        verify(repository, never()).findByTypeAndVersion(anyString(), anyString());
+    }
+
+    private JsonSchemaEntity row(String type, String version) {
+        JsonSchemaEntity entity = new JsonSchemaEntity();
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setContentHash(CONTENT_HASH);
+        return entity;
+    }
+}
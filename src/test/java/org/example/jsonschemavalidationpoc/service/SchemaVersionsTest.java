@@ -0,0 +1,70 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SchemaVersions Unit Tests")
+class SchemaVersionsTest {
+
+    private final SchemaVersions versions = SchemaVersions.of(List.of(
+        "1.0", "1.1", "1.2.5", "1.10", "2.0", "2.1.0", "3.0.0-rc.1", "0.2.1", "0.3.0", "legacy"));
+
+    @Test
+    @DisplayName("Should resolve latest to the highest release version")
+    void shouldResolveLatest() {
+        // Act & Assert
+        assertThat(resolve("latest")).isEqualTo("2.1.0");
+        assertThat(resolve("*")).isEqualTo("2.1.0");
+    }
+
+    @Test
+    @DisplayName("Should resolve caret, tilde and x-ranges")
+    void shouldResolveShorthandRanges() {
+        // Act & Assert
+        assertThat(resolve("^1.1")).isEqualTo("1.10");
+        assertThat(resolve("~1.2")).isEqualTo("1.2.5");
+        assertThat(resolve("1.x")).isEqualTo("1.10");
+        assertThat(resolve("^0.2")).isEqualTo("0.2.1");
+        assertThat(resolve("2.0.x")).isEqualTo("2.0");
+    }
+
+    @Test
+    @DisplayName("Should resolve comparator sets and alternatives")
+    void shouldResolveComparators() {
+        // Act & Assert
+        assertThat(resolve(">=1.0 <1.2")).isEqualTo("1.1");
+        assertThat(resolve(">= 1.0 <= 1.2")).isEqualTo("1.2.5");
+        assertThat(resolve(">1.10 <2.1")).isEqualTo("2.0");
+        assertThat(resolve("0.x || 1.1.x")).isEqualTo("1.1");
+    }
+
+    @Test
+    @DisplayName("Should find nothing when no release version matches")
+    void shouldReturnEmptyWhenNothingMatches() {
+        // Act & Assert
+        assertThat(versions.resolve(VersionRange.parse("^3.0"))).isEmpty();
+        assertThat(versions.resolve(VersionRange.parse("<0.1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should tell selectors apart from plain version names")
+    void shouldDetectSelectors() {
+        // Act & Assert
+        assertThat(VersionRange.isSelector("latest")).isTrue();
+        assertThat(VersionRange.isSelector("^1.2")).isTrue();
+        assertThat(VersionRange.isSelector("1.x")).isTrue();
+        assertThat(VersionRange.isSelector(">=1.0 <2.0")).isTrue();
+        assertThat(VersionRange.isSelector("1.0")).isFalse();
+        assertThat(VersionRange.isSelector("2.0.0-beta")).isFalse();
+        assertThatThrownBy(() -> VersionRange.parse(">=one"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String resolve(String selector) {
+        return versions.resolve(VersionRange.parse(selector)).orElseThrow();
+    }
+}
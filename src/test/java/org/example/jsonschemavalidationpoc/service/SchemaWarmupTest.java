@@ -0,0 +1,105 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import org.example.jsonschemavalidationpoc.config.SchemaWarmupProperties;
+import org.example.jsonschemavalidationpoc.entity.JsonSchemaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchemaWarmup Unit Tests")
+class SchemaWarmupTest {
+
+    @Mock
+    private SchemaRegistry schemaRegistry;
+
+    @Mock
+    private JsonSchemaService jsonSchemaService;
+
+    private SchemaWarmupProperties properties;
+
+    private SchemaWarmup schemaWarmup;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SchemaWarmupProperties();
+        properties.setParallelism(2);
+        schemaWarmup = new SchemaWarmup(schemaRegistry, jsonSchemaService, properties);
+    }
+
+    @Test
+    @DisplayName("Should compile every stored schema when no list is configured")
+    void shouldWarmAllSchemas() {
+        // Arrange
+        JsonSchemaEntity user = schema("user", "1.0", "{\"type\":\"object\"}");
+        JsonSchemaEntity order = schema("order", "2.0", "{\"type\":\"object\"}");
+        when(schemaRegistry.findAll()).thenReturn(List.of(user, order));
+
+        // Act
+        int warmed = schemaWarmup.warmUp();
+
+        // Assert
+        assertThat(warmed).isEqualTo(2);
+        verify(jsonSchemaService).preloadSchema(user);
+        verify(jsonSchemaService).preloadSchema(order);
+    }
+
+    @Test
+    @DisplayName("Should compile only the configured schemas and skip unknown entries")
+    void shouldWarmConfiguredSchemas() {
+        // Arrange
+        properties.setSchemas(List.of("user:1.0", "missing:1.0", "malformed"));
+        JsonSchemaEntity user = schema("user", "1.0", "{\"type\":\"object\"}");
+        when(schemaRegistry.find("user", "1.0")).thenReturn(Optional.of(user));
+        when(schemaRegistry.find("missing", "1.0")).thenReturn(Optional.empty());
+
+        // Act
+        int warmed = schemaWarmup.warmUp();
+
+        // Assert
+        assertThat(warmed).isEqualTo(1);
+        verify(jsonSchemaService).preloadSchema(user);
+        verify(schemaRegistry, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should keep warming when one schema fails to compile")
+    void shouldContinueWhenSchemaFails() {
+        // Arrange
+        JsonSchemaEntity broken = schema("broken", "1.0", "{not json");
+        JsonSchemaEntity user = schema("user", "1.0", "{\"type\":\"object\"}");
+        when(schemaRegistry.findAll()).thenReturn(List.of(broken, user));
+        // Schemas are warmed in parallel, so one stub answers both calls in whatever order they come
+        when(jsonSchemaService.preloadSchema(any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == broken) {
+                throw new IllegalStateException("Invalid JSON");
+            }
+            return null;
+        });
+
+        // Act
+        int warmed = schemaWarmup.warmUp();
+
+        // Assert
+        assertThat(warmed).isEqualTo(1);
+        verify(jsonSchemaService).preloadSchema(user);
+    }
+
+    private JsonSchemaEntity schema(String type, String version, String content) {
+        JsonSchemaEntity entity = new JsonSchemaEntity();
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setSchemaContent(content);
+        return entity;
+    }
+}
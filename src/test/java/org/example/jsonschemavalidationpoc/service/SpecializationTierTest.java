@@ -0,0 +1,91 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.jsonschemavalidationpoc.config.SpecializedValidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpecializationTier Unit Tests")
+class SpecializationTierTest {
+
+    @Mock
+    private SpecializedValidatorCompiler specializedValidatorCompiler;
+
+    private SpecializedValidationProperties properties;
+    private SpecializationTier specializationTier;
+    private CompiledSchema compiled;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new SpecializedValidationProperties();
+        specializationTier = new SpecializationTier(specializedValidatorCompiler, properties);
+        JsonNode schemaNode = new ObjectMapper().readTree("{\"type\":\"object\"}");
+        compiled = new CompiledSchema(new SchemaCompiler().compile(schemaNode), 17);
+    }
+
+    @Test
+    @DisplayName("Should keep every schema on the generic engine by default")
+    void shouldNotSpecializeByDefault() {
+        // Act
+        SpecializedValidator first = specializationTier.forUse(compiled);
+        SpecializedValidator second = specializationTier.forUse(compiled);
+
+        // Assert
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(compiled.specialized()).isNull();
+        verifyNoInteractions(specializedValidatorCompiler);
+    }
+
+    @Test
+    @DisplayName("Should specialize a schema once it is used more often than the threshold and build it only once")
+    void shouldSpecializePastUsageThreshold() {
+        // Arrange
+        properties.setEnabled(true);
+        properties.setUsageThreshold(2);
+        SpecializedValidator specialized = node -> true;
+        when(specializedValidatorCompiler.compile(any())).thenReturn(Optional.of(specialized));
+
+        // Act
+        List<SpecializedValidator> uses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            uses.add(specializationTier.forUse(compiled));
+        }
+
+        // Assert
+        assertThat(uses).containsExactly(null, null, specialized, specialized);
+        assertThat(compiled.specialized()).isSameAs(specialized);
+        verify(specializedValidatorCompiler).compile(compiled.schema().getSchemaNode());
+    }
+
+    @Test
+    @DisplayName("Should stay on the generic engine without retrying when the schema cannot be specialized")
+    void shouldNotRetryUnsupportedSchemas() {
+        // Arrange
+        properties.setEnabled(true);
+        when(specializedValidatorCompiler.compile(any())).thenReturn(Optional.empty());
+
+        // Act
+        SpecializedValidator first = specializationTier.forUse(compiled);
+        SpecializedValidator second = specializationTier.forUse(compiled);
+
+        // Assert
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(specializedValidatorCompiler, times(1)).compile(any());
+    }
+}
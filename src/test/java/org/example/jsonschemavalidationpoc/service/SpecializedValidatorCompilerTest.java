@@ -0,0 +1,115 @@
+package org.example.jsonschemavalidationpoc.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.OutputFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SpecializedValidatorCompiler Unit Tests")
+class SpecializedValidatorCompilerTest {
+
+    private ObjectMapper objectMapper;
+    private SchemaCompiler schemaCompiler;
+    private SpecializedValidatorCompiler specializedValidatorCompiler;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        schemaCompiler = new SchemaCompiler();
+        specializedValidatorCompiler = new SpecializedValidatorCompiler(schemaCompiler);
+    }
+
+    @Test
+    @DisplayName("Should agree with the generic engine on types, required fields, enums and ranges")
+    void shouldAgreeWithGenericEngine() throws Exception {
+        // Arrange
+        String schema = """
+            {
+              "type": "object",
+              "properties": {
+                "name": {"type": "string", "minLength": 2, "maxLength": 10},
+                "age": {"type": "integer", "minimum": 0, "maximum": 150},
+                "score": {"type": "number", "exclusiveMinimum": 0},
+                "kind": {"type": "string", "enum": ["home", "work"]},
+                "zip": {"type": "string", "pattern": "^\\\\d{5}$"},
+                "tags": {"type": "array", "items": {"type": "string"}, "maxItems": 2}
+              },
+              "required": ["name", "age"],
+              "additionalProperties": false
+            }
+            """;
+
+        List<String> documents = List.of(
+            "{\"name\":\"Jo\",\"age\":30}",
+            "{\"name\":\"Jo\",\"age\":30.0}",
+            "{\"name\":\"Jo\",\"age\":30.5}",
+            "{\"name\":\"J\",\"age\":30}",
+            "{\"name\":\"Jo\"}",
+            "{\"name\":\"Jo\",\"age\":-1}",
+            "{\"name\":\"Jo\",\"age\":1,\"score\":0}",
+            "{\"name\":\"Jo\",\"age\":1,\"kind\":\"work\"}",
+            "{\"name\":\"Jo\",\"age\":1,\"kind\":\"school\"}",
+            "{\"name\":\"Jo\",\"age\":1,\"zip\":\"12345\"}",
+            "{\"name\":\"Jo\",\"age\":1,\"zip\":\"1234\"}",
+            "{\"name\":\"Jo\",\"age\":1,\"tags\":[\"a\",\"b\",\"c\"]}",
+            "{\"name\":\"Jo\",\"age\":1,\"extra\":true}",
+            "[]");
+
+        // Act & Assert
+        assertAgreesWithGenericEngine(schema, documents);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the generic engine for unsupported sub-schemas")
+    void shouldFallBackForUnsupportedKeywords() throws Exception {
+        // Arrange
+        String schema = Files.readString(Path.of("examples/user-schema.json"));
+
+        List<String> documents = List.of(
+            Files.readString(Path.of("examples/valid-user.json")),
+            Files.readString(Path.of("examples/invalid-user.json")),
+            "{\"name\":\"John\",\"email\":\"not-an-email\"}",
+            "{\"name\":\"John\",\"email\":\"john@example.com\",\"age\":200}");
+
+        // Act & Assert
+        assertAgreesWithGenericEngine(schema, documents);
+    }
+
+    @Test
+    @DisplayName("Should not specialize schemas that use references")
+    void shouldNotSpecializeReferences() throws Exception {
+        // Arrange
+        JsonNode schema = objectMapper.readTree(
+            "{\"definitions\":{\"id\":{\"type\":\"integer\"}},\"properties\":{\"id\":{\"$ref\":\"#/definitions/id\"}}}");
+
+        // Act
+        Optional<SpecializedValidator> specialized = specializedValidatorCompiler.compile(schema);
+
+        // Assert
+        assertThat(specialized).isEmpty();
+    }
+
+    private void assertAgreesWithGenericEngine(String schemaContent, List<String> documents) throws Exception {
+        JsonNode schemaNode = objectMapper.readTree(schemaContent);
+        JsonSchema generic = schemaCompiler.compile(schemaNode);
+        SpecializedValidator specialized = specializedValidatorCompiler.compile(schemaNode).orElseThrow();
+
+        for (String document : documents) {
+            JsonNode node = objectMapper.readTree(document);
+            boolean expected = generic.validate(node, OutputFormat.BOOLEAN);
+            assertThat(specialized.isValid(node))
+                .as("specialized result for %s", document)
+                .isEqualTo(expected);
+        }
+    }
+}